@@ -0,0 +1,68 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.service.analytics.AnalyticsDimension;
+import com.rail.asset.service.analytics.AssetAnalytics;
+import com.rail.asset.service.analytics.AssetAnalyticsFilter;
+import com.rail.asset.service.analytics.AssetColumnStore;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AssetAnalyticsBenchmark {
+
+    private static final AssetAnalyticsFilter FILTERED = new AssetAnalyticsFilter(
+        "SIGNAL", "ACTIVE", null, null, LocalDate.of(2017, 1, 1), LocalDate.of(2019, 12, 31));
+
+    @Param({"1000000"})
+    int datasetSize;
+
+    @Param({"category", "installYear", "location"})
+    String groupBy;
+
+    private ConfigurableApplicationContext context;
+    private AssetColumnStore columnStore;
+    private AnalyticsDimension dimension;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkPersistence.start("analytics-benchmark");
+        columnStore = context.getBean(AssetColumnStore.class);
+        BenchmarkPersistence.seed(context, datasetSize);
+        columnStore.rebuild();
+        dimension = AnalyticsDimension.fromParameter(groupBy);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public AssetAnalytics groupAll() {
+        return columnStore.aggregate(AssetAnalyticsFilter.NONE, dimension);
+    }
+
+    @Benchmark
+    public AssetAnalytics groupFiltered() {
+        return columnStore.aggregate(FILTERED, dimension);
+    }
+}
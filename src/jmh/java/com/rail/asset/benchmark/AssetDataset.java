@@ -0,0 +1,61 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.domain.Asset;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+final class AssetDataset {
+
+    static final String SEED_PREFIX = "BEN-";
+    static final String[] CATEGORIES = {
+        "TRACK", "SIGNAL", "ROLLING_STOCK", "POWER", "BRIDGE", "STATION", "TELECOM", "DEPOT"
+    };
+    static final String[] STATUSES = {"ACTIVE", "MAINTENANCE", "STANDBY", "RETIRED"};
+
+    private static final int LOCATIONS = 50;
+    private static final LocalDate BASE_DATE = LocalDate.of(2015, 1, 1);
+    private static final Instant AUDIT_TIME = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String NOTES = "Inspected by regional crew; wear within tolerance. "
+        + "Replacement parts ordered against framework contract, see maintenance log for history.";
+
+    private AssetDataset() {
+    }
+
+    static List<Asset> generate(int count, String prefix) {
+        List<Asset> assets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            assets.add(asset(i, prefix));
+        }
+        return assets;
+    }
+
+    static Asset asset(long index, String prefix) {
+        int slot = (int) (index % (CATEGORIES.length * STATUSES.length));
+        Asset asset = new Asset(
+            null,
+            String.format("%s%07d", prefix, index),
+            "Asset " + index,
+            CATEGORIES[slot % CATEGORIES.length],
+            "SUB-" + (index % 12),
+            "Manufacturer " + (index % 20),
+            "MDL-" + (index % 300),
+            "SN-" + index,
+            BASE_DATE.plusDays(index % 3000),
+            STATUSES[slot / CATEGORIES.length],
+            "LOC-" + (index % LOCATIONS),
+            90 + (int) (index % 4) * 90,
+            BASE_DATE.plusDays(2000 + index % 1500),
+            new BigDecimal("7.50"),
+            BigDecimal.valueOf(10_000 + index % 90_000, 2),
+            NOTES);
+        asset.setCreatedBy("benchmark");
+        asset.setLastModifiedBy("benchmark");
+        asset.setCreatedAt(AUDIT_TIME);
+        asset.setUpdatedAt(AUDIT_TIME);
+        asset.refreshNextInspectionDue();
+        return asset;
+    }
+}
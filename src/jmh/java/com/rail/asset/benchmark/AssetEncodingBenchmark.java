@@ -0,0 +1,81 @@
+package com.rail.asset.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.rail.asset.domain.Asset;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// Encode time per list page; the encoded size of each combination is printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetEncodingBenchmark {
+
+    @Param({"100", "1000"})
+    int size;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    @Param({"false", "true"})
+    boolean gzip;
+
+    private ObjectWriter writer;
+    private List<Asset> assets;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        // Same defaults Spring Boot applies to the MVC message converters.
+        writer = Jackson2ObjectMapperBuilder.json()
+            .factory(factory)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+        assets = AssetDataset.generate(size, AssetDataset.SEED_PREFIX);
+        long id = 1;
+        for (Asset asset : assets) {
+            asset.setId(id++);
+            asset.setVersion(0L);
+        }
+        System.out.printf("%n%s%s, %d assets: %,d bytes%n", format, gzip ? "+gzip" : "", size, encode().length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(assets);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, assets);
+        }
+        return bytes.toByteArray();
+    }
+}
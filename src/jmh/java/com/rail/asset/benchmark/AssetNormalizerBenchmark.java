@@ -0,0 +1,49 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.support.AssetNormalizer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetNormalizerBenchmark {
+
+    private Asset asset;
+
+    @Setup
+    public void setUp() {
+        asset = AssetDataset.asset(42, AssetDataset.SEED_PREFIX);
+    }
+
+    @Benchmark
+    public Asset normalizeRawInput() {
+        asset.setAssetCode("  ben-0000042 ");
+        asset.setLocationCode(" loc-42");
+        asset.setStatus("active ");
+        AssetNormalizer.normalize(asset);
+        return asset;
+    }
+
+    @Benchmark
+    public Asset normalizeCanonicalInput() {
+        asset.setAssetCode("BEN-0000042");
+        asset.setLocationCode("LOC-42");
+        asset.setStatus("ACTIVE");
+        AssetNormalizer.normalize(asset);
+        return asset;
+    }
+}
@@ -0,0 +1,66 @@
+package com.rail.asset.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssetSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    int size;
+
+    private ObjectWriter writer;
+    private List<Asset> assets;
+    private List<AssetSummary> summaries;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the MVC message converter.
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        writer = mapper.writer();
+        assets = AssetDataset.generate(size, AssetDataset.SEED_PREFIX);
+        long id = 1;
+        for (Asset asset : assets) {
+            asset.setId(id++);
+        }
+        summaries = assets.stream()
+            .map(asset -> new AssetSummary(asset.getId(), asset.getAssetCode(), asset.getName(),
+                asset.getCategory(), asset.getStatus(), asset.getLocationCode()))
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeAssets() throws JsonProcessingException {
+        return writer.writeValueAsBytes(assets);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaries() throws JsonProcessingException {
+        return writer.writeValueAsBytes(summaries);
+    }
+}
@@ -0,0 +1,91 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.AssetService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssetServiceBenchmark {
+
+    private static final String CREATE_PREFIX = "NEW-";
+
+    @Param({"10000"})
+    int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private AssetService assetService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Asset> seeded;
+    private long created;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkPersistence.start("service-benchmark");
+        assetService = context.getBean(AssetService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seeded = BenchmarkPersistence.seed(context, datasetSize);
+    }
+
+    @TearDown(Level.Iteration)
+    public void dropCreatedRows() {
+        // Keep the table at the seeded size so later iterations measure the same dataset.
+        jdbcTemplate.update("delete from assets where asset_code like ?", CREATE_PREFIX + "%");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Asset create() {
+        return assetService.create(AssetDataset.asset(created++, CREATE_PREFIX));
+    }
+
+    @Benchmark
+    public Asset update() {
+        int index = nextIndex();
+        Asset changes = AssetDataset.asset(index, AssetDataset.SEED_PREFIX);
+        changes.setNotes("Revision " + created++);
+        return assetService.update(seeded.get(index).getId(), changes);
+    }
+
+    @Benchmark
+    public Asset findByAssetCode() {
+        return assetService.findByAssetCode(seeded.get(nextIndex()).getAssetCode());
+    }
+
+    @Benchmark
+    public List<Asset> findByCategoryAndStatus() {
+        Asset sample = seeded.get(nextIndex());
+        return assetService.findByCategoryAndStatus(sample.getCategory(), sample.getStatus());
+    }
+
+    // Stride through the dataset with a prime step so consecutive calls hit scattered rows.
+    private int nextIndex() {
+        next = (next + 7919) % seeded.size();
+        return next;
+    }
+}
@@ -0,0 +1,56 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.service.text.AssetTextHit;
+import com.rail.asset.service.text.AssetTextIndex;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AssetTextIndexBenchmark {
+
+    @Param({"100000"})
+    int datasetSize;
+
+    @Param({"manufacturer 7", "mdl-29", "sn-00042", "regional crew"})
+    String query;
+
+    private ConfigurableApplicationContext context;
+    private AssetTextIndex textIndex;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkPersistence.start("text-benchmark");
+        textIndex = context.getBean(AssetTextIndex.class);
+        BenchmarkPersistence.seed(context, datasetSize);
+        textIndex.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AssetTextHit> search() {
+        return textIndex.search(query, 20);
+    }
+}
@@ -0,0 +1,55 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.service.AssetValuationService;
+import com.rail.asset.service.PortfolioValuation;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Whole-register valuation including the chunked reads; pass -p datasetSize=1000000 for year-end scale.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class AssetValuationBenchmark {
+
+    private static final LocalDate YEAR_END = LocalDate.of(2025, 12, 31);
+
+    @Param({"100000"})
+    int datasetSize;
+
+    private ConfigurableApplicationContext context;
+    private AssetValuationService valuationService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkPersistence.start("valuation-benchmark");
+        valuationService = context.getBean(AssetValuationService.class);
+        BenchmarkPersistence.seed(context, datasetSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public PortfolioValuation valueRegister() {
+        return valuationService.valueAt(YEAR_END);
+    }
+}
@@ -0,0 +1,63 @@
+package com.rail.asset.benchmark;
+
+import com.rail.asset.config.AuditingConfig;
+import com.rail.asset.config.ClockConfig;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetAnalyticsReader;
+import com.rail.asset.repository.AssetJdbcWriter;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.repository.AssetValuationReader;
+import com.rail.asset.service.analytics.AssetColumnStore;
+import com.rail.asset.service.impl.AssetServiceImpl;
+import com.rail.asset.service.impl.AssetValuationServiceImpl;
+import com.rail.asset.service.text.AssetTextIndex;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// Persistence slice only: no web layer, no security filters and no lookup cache, so
+// service benchmarks measure the JPA and H2 path rather than cache hits.
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {SecurityAutoConfiguration.class, UserDetailsServiceAutoConfiguration.class})
+@EntityScan(basePackageClasses = Asset.class)
+@EnableJpaRepositories(basePackageClasses = AssetRepository.class)
+@Import({
+    AssetServiceImpl.class, AssetValuationServiceImpl.class, AssetJdbcWriter.class, AssetValuationReader.class,
+    AssetTextIndex.class, AssetColumnStore.class, AssetAnalyticsReader.class, AuditingConfig.class, ClockConfig.class
+})
+public class BenchmarkPersistence {
+
+    private static final int SEED_CHUNK = 1000;
+
+    static ConfigurableApplicationContext start(String databaseName) {
+        return new SpringApplicationBuilder(BenchmarkPersistence.class)
+            .web(WebApplicationType.NONE)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                "spring.jpa.hibernate.ddl-auto=create-drop",
+                "logging.level.root=WARN")
+            .run();
+    }
+
+    static List<Asset> seed(ConfigurableApplicationContext context, int count) {
+        AssetJdbcWriter writer = context.getBean(AssetJdbcWriter.class);
+        List<Asset> assets = AssetDataset.generate(count, AssetDataset.SEED_PREFIX);
+        Instant now = Instant.now();
+        for (int from = 0; from < assets.size(); from += SEED_CHUNK) {
+            writer.insertBatch(assets.subList(from, Math.min(from + SEED_CHUNK, assets.size())), "benchmark", now);
+        }
+        return assets;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rail.asset.benchmark;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Holds the caller (and its pooled connection) for a fixed time per statement, standing in for a
+// MySQL round trip so the in-memory H2 database behaves like a slow remote one.
+public class SimulatedLatencyInspector implements StatementInspector {
+
+    static final String LATENCY_PROPERTY = "load.db-latency-ms";
+
+    private final long latencyMillis = Long.getLong(LATENCY_PROPERTY, 0);
+
+    @Override
+    public String inspect(String sql) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,230 @@
+package com.rail.asset.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rail.asset.RailAssetManagementSystemApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Closed-loop HTTP load per threading mode (platform, platform-tuned, virtual) with a simulated per-statement
+// database latency. platform-tuned separates the gain from pool sizing from the gain from virtual threads.
+public final class VirtualThreadLoadComparison {
+
+    private static final int SEEDED_ASSETS = 5000;
+    private static final int LOCATIONS = 50;
+    private static final String AUTHORIZATION = "Basic "
+        + Base64.getEncoder().encodeToString("viewer:viewerPass!".getBytes(StandardCharsets.UTF_8));
+
+    private VirtualThreadLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT20S"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT5S"));
+        String latency = options.getOrDefault("db-latency-ms", "20");
+        Path output = Path.of(options.getOrDefault("result", "target/load-comparison.json"));
+        System.setProperty(SimulatedLatencyInspector.LATENCY_PROPERTY, latency);
+
+        List<ModeResult> results = new ArrayList<>();
+        results.add(run("platform", new String[0], false, concurrency, warmup, duration));
+        results.add(run("platform-tuned", new String[] {"virtual"}, false, concurrency, warmup, duration));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run("virtual", new String[] {"virtual"}, true, concurrency, warmup, duration));
+        } else {
+            System.out.println("Skipping virtual mode: running on Java " + Runtime.version().feature());
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), results);
+        System.out.printf("%n%-16s %12s %10s %10s %10s %10s %10s%n",
+            "mode", "req/s", "p50 ms", "p95 ms", "p99 ms", "rejected", "errors");
+        for (ModeResult result : results) {
+            System.out.printf("%-16s %12.1f %10.1f %10.1f %10.1f %10d %10d%n", result.mode(),
+                result.throughputPerSecond(), result.p50Millis(), result.p95Millis(), result.p99Millis(),
+                result.rejected(), result.errors());
+        }
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static ModeResult run(
+        String mode,
+        String[] profiles,
+        boolean virtualThreads,
+        int concurrency,
+        Duration warmup,
+        Duration duration
+    ) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                RailAssetManagementSystemApplication.class)
+            .profiles(profiles)
+            .bannerMode(Banner.Mode.OFF)
+            .logStartupInfo(false)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                // One role drives every request, so the per-role list budget would cap all three modes alike.
+                "rail.bulkhead.enabled=false",
+                "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + SimulatedLatencyInspector.class.getName(),
+                "logging.level.root=WARN")
+            .run()) {
+            BenchmarkPersistence.seed(context, SEEDED_ASSETS);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+            System.out.printf("%s: warming up for %s with %d clients%n", mode, warmup, concurrency);
+            drive(client, baseUrl, concurrency, warmup);
+            System.out.printf("%s: measuring for %s%n", mode, duration);
+            List<ClientStats> stats = drive(client, baseUrl, concurrency, duration);
+            return ModeResult.of(mode, concurrency, duration, stats);
+        }
+    }
+
+    private static List<ClientStats> drive(HttpClient client, String baseUrl, int concurrency, Duration duration)
+        throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<ClientStats>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int clientId = i;
+                futures.add(clients.submit(() -> clientLoop(client, baseUrl, clientId, deadline)));
+            }
+            List<ClientStats> stats = new ArrayList<>(concurrency);
+            for (Future<ClientStats> future : futures) {
+                stats.add(future.get());
+            }
+            return stats;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private static ClientStats clientLoop(HttpClient client, String baseUrl, int clientId, long deadline) {
+        ClientStats stats = new ClientStats();
+        int location = clientId % LOCATIONS;
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    baseUrl + "/api/assets?view=summary&limit=20&location=LOC-" + location))
+                .header("Authorization", AUTHORIZATION)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            location = (location + 1) % LOCATIONS;
+            long start = System.nanoTime();
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 200) {
+                    stats.record(System.nanoTime() - start);
+                } else if (status == 503) {
+                    stats.rejected++;
+                } else {
+                    stats.errors++;
+                }
+            } catch (IOException ex) {
+                stats.errors++;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return stats;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int split = arg.indexOf('=');
+                options.put(arg.substring(2, split), arg.substring(split + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class ClientStats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long rejected;
+        private long errors;
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    record ModeResult(
+        String mode,
+        int javaVersion,
+        int concurrency,
+        long durationSeconds,
+        long completed,
+        double throughputPerSecond,
+        double p50Millis,
+        double p95Millis,
+        double p99Millis,
+        double maxMillis,
+        long rejected,
+        long errors
+    ) {
+
+        static ModeResult of(String mode, int concurrency, Duration duration, List<ClientStats> stats) {
+            int total = stats.stream().mapToInt(s -> s.count).sum();
+            long[] all = new long[total];
+            int offset = 0;
+            for (ClientStats s : stats) {
+                System.arraycopy(s.latencies, 0, all, offset, s.count);
+                offset += s.count;
+            }
+            Arrays.sort(all);
+            return new ModeResult(
+                mode,
+                Runtime.version().feature(),
+                concurrency,
+                duration.toSeconds(),
+                total,
+                total / (duration.toNanos() / 1e9),
+                percentile(all, 0.50),
+                percentile(all, 0.95),
+                percentile(all, 0.99),
+                total == 0 ? 0 : all[total - 1] / 1e6,
+                stats.stream().mapToLong(s -> s.rejected).sum(),
+                stats.stream().mapToLong(s -> s.errors).sum());
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.analytics.AnalyticsDimension;
+import com.rail.asset.service.analytics.AssetAnalytics;
+import com.rail.asset.service.analytics.AssetAnalyticsFilter;
+import com.rail.asset.service.analytics.AssetColumnStore;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/assets/analytics")
+public class AssetAnalyticsController {
+
+    private final AssetColumnStore assetColumnStore;
+
+    public AssetAnalyticsController(AssetColumnStore assetColumnStore) {
+        this.assetColumnStore = assetColumnStore;
+    }
+
+    @GetMapping
+    public ResponseEntity<AssetAnalytics> analytics(
+        AssetAnalyticsFilter filter,
+        @RequestParam(required = false) String groupBy
+    ) {
+        try {
+            return ResponseEntity.ok(assetColumnStore.aggregate(filter, AnalyticsDimension.fromParameter(groupBy)));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+}
@@ -1,10 +1,34 @@
 package com.rail.asset.api;
 
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
+import com.rail.asset.service.AssetBulkService;
+import com.rail.asset.service.AssetChangeSet;
+import com.rail.asset.service.AssetExportService;
+import com.rail.asset.service.AssetSearchCriteria;
 import com.rail.asset.service.AssetService;
+import com.rail.asset.service.AssetSort;
+import com.rail.asset.service.AssetSyncService;
+import com.rail.asset.service.AssetVersionConflictException;
+import com.rail.asset.service.AssetView;
+import com.rail.asset.service.BulkImportResult;
+import com.rail.asset.service.BulkUpsertResult;
+import com.rail.asset.service.CursorPage;
+import com.rail.asset.service.ExportFormat;
+import com.rail.asset.service.SyncTokenExpiredException;
+import com.rail.asset.service.location.AssetLocationNode;
+import com.rail.asset.service.location.AssetLocationTree;
+import com.rail.asset.service.support.CsvFormatException;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Reader;
 import java.net.URI;
 import java.util.List;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,10 +47,26 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @RequestMapping("/api/assets")
 public class AssetController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final AssetService assetService;
+    private final AssetExportService assetExportService;
+    private final AssetBulkService assetBulkService;
+    private final AssetSyncService assetSyncService;
+    private final AssetLocationTree assetLocationTree;
 
-    public AssetController(AssetService assetService) {
+    public AssetController(
+        AssetService assetService,
+        AssetExportService assetExportService,
+        AssetBulkService assetBulkService,
+        AssetSyncService assetSyncService,
+        AssetLocationTree assetLocationTree
+    ) {
         this.assetService = assetService;
+        this.assetExportService = assetExportService;
+        this.assetBulkService = assetBulkService;
+        this.assetSyncService = assetSyncService;
+        this.assetLocationTree = assetLocationTree;
     }
 
     @PostMapping
@@ -36,17 +77,53 @@ public class AssetController {
                 .path("/{id}")
                 .buildAndExpand(created.getId())
                 .toUri();
-            return ResponseEntity.created(location).body(created);
+            return ResponseEntity.created(location).eTag(AssetETags.of(created)).body(created);
         } catch (RuntimeException ex) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, ex.getMessage(), ex);
         }
     }
 
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResult> importAssets(@RequestBody List<Asset> assets) {
+        return ResponseEntity.ok(assetBulkService.importAssets(assets));
+    }
+
+    @PostMapping(path = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkImportResult> importAssetsCsv(Reader body) {
+        try {
+            return ResponseEntity.ok(assetBulkService.importCsv(body));
+        } catch (CsvFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @PutMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkUpsertResult> upsertAssets(@RequestBody List<Asset> assets) {
+        return ResponseEntity.ok(assetBulkService.upsertAssets(assets));
+    }
+
+    @PutMapping(path = "/bulk", consumes = "text/csv")
+    public ResponseEntity<BulkUpsertResult> upsertAssetsCsv(Reader body) {
+        try {
+            return ResponseEntity.ok(assetBulkService.upsertCsv(body));
+        } catch (CsvFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Asset> updateAsset(@PathVariable Long id, @RequestBody Asset asset) {
+    public ResponseEntity<Asset> updateAsset(
+        @PathVariable Long id,
+        @RequestBody Asset asset,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        Long expectedVersion = ifMatch == null ? null : expectedVersion(id, ifMatch);
         try {
-            Asset updated = assetService.update(id, asset);
-            return ResponseEntity.ok(updated);
+            Asset updated = assetService.update(id, asset, expectedVersion);
+            return ResponseEntity.ok().eTag(AssetETags.of(updated)).body(updated);
+        } catch (AssetVersionConflictException | OptimisticLockingFailureException ex) {
+            HttpStatus status = ifMatch == null ? HttpStatus.CONFLICT : HttpStatus.PRECONDITION_FAILED;
+            throw new ResponseStatusException(status, ex.getMessage(), ex);
         } catch (RuntimeException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
         }
@@ -63,35 +140,225 @@ public class AssetController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Asset> getAssetById(@PathVariable Long id) {
+    public ResponseEntity<Asset> getAssetById(
+        @PathVariable Long id,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
-            return ResponseEntity.ok(assetService.findById(id));
+            if (ifNoneMatch != null) {
+                String etag = AssetETags.of(assetService.findVersion(id));
+                if (AssetETags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+            }
+            Asset asset = assetService.findById(id);
+            return ResponseEntity.ok().eTag(AssetETags.of(asset)).body(asset);
         } catch (RuntimeException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
         }
     }
 
     @GetMapping("/code/{assetCode}")
-    public ResponseEntity<Asset> getAssetByCode(@PathVariable String assetCode) {
+    public ResponseEntity<Asset> getAssetByCode(
+        @PathVariable String assetCode,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
         try {
-            return ResponseEntity.ok(assetService.findByAssetCode(assetCode));
+            if (ifNoneMatch != null) {
+                String etag = AssetETags.of(assetService.findVersionByAssetCode(assetCode));
+                if (AssetETags.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                    return notModified(etag);
+                }
+            }
+            Asset asset = assetService.findByAssetCode(assetCode);
+            return ResponseEntity.ok().eTag(AssetETags.of(asset)).body(asset);
         } catch (RuntimeException ex) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
         }
     }
 
     @GetMapping
-    public ResponseEntity<List<Asset>> listAssets(
+    public ResponseEntity<? extends List<?>> listAssets(
+        AssetSearchCriteria criteria,
+        @RequestParam(required = false) String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(defaultValue = "full") String view
+    ) {
+        try {
+            AssetSort order = AssetSort.fromParameter(sort);
+            if (AssetView.fromParameter(view) == AssetView.SUMMARY) {
+                return pageResponse(listSummaries(criteria, order, cursor, limit));
+            }
+            return pageResponse(listFull(criteria, order, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @GetMapping("/by-location")
+    public ResponseEntity<? extends List<?>> listByLocation(
+        @RequestParam(required = false) String prefix,
+        @RequestParam(required = false) String subtree,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(defaultValue = "full") String view
+    ) {
+        try {
+            if ((prefix == null) == (subtree == null)) {
+                throw new IllegalArgumentException("Exactly one of prefix or subtree is required");
+            }
+            if (AssetView.fromParameter(view) == AssetView.SUMMARY) {
+                return pageResponse(prefix != null
+                    ? assetService.findSummaryPageByLocationPrefix(prefix, cursor, limit)
+                    : assetService.findSummaryPageByLocationSubtree(subtree, cursor, limit));
+            }
+            return pageResponse(prefix != null
+                ? assetService.findPageByLocationPrefix(prefix, cursor, limit)
+                : assetService.findPageByLocationSubtree(subtree, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @GetMapping("/locations")
+    public ResponseEntity<AssetLocationNode> browseLocations(@RequestParam(required = false) String path) {
+        return assetLocationTree.browse(path)
+            .map(ResponseEntity::ok)
+            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Location not found: " + path));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<AssetChangeSet> listChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(assetSyncService.changesSince(since, limit));
+        } catch (SyncTokenExpiredException ex) {
+            throw new ResponseStatusException(HttpStatus.GONE, ex.getMessage(), ex);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @GetMapping("/maintenance/overdue")
+    public ResponseEntity<List<Asset>> listOverdue(
+        @RequestParam(required = false, name = "location") String locationCode,
         @RequestParam(required = false) String category,
-        @RequestParam(required = false) String status,
-        @RequestParam(required = false, name = "location") String locationCode
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
     ) {
-        if (category != null && status != null) {
-            return ResponseEntity.ok(assetService.findByCategoryAndStatus(category, status));
+        try {
+            return pageResponse(assetService.findOverdue(locationCode, category, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
         }
-        if (locationCode != null) {
-            return ResponseEntity.ok(assetService.findByLocation(locationCode));
+    }
+
+    @GetMapping("/maintenance/due")
+    public ResponseEntity<List<Asset>> listDueWithin(
+        @RequestParam(defaultValue = "14") int days,
+        @RequestParam(required = false, name = "location") String locationCode,
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        try {
+            return pageResponse(assetService.findDueWithin(days, locationCode, category, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+
+    @GetMapping("/export")
+    public void exportAssets(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+        throws IOException {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.fromParameter(format);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"assets." + exportFormat.extension() + "\"");
+        assetExportService.export(exportFormat, response.getOutputStream());
+    }
+
+    private Long expectedVersion(Long id, String ifMatch) {
+        AssetVersion current;
+        try {
+            current = assetService.findVersion(id);
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, ex.getMessage(), ex);
+        }
+        if (!AssetETags.matchesIfMatch(ifMatch, AssetETags.of(current))) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Asset " + id + " has been modified");
+        }
+        // Re-checked inside the update so a write landing between the two calls is still caught.
+        return current.version();
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    private CursorPage<Asset> listFull(AssetSearchCriteria criteria, AssetSort order, String cursor, Integer limit) {
+        AssetSearchCriteria filters = criteria.normalized();
+        if (!order.equals(AssetSort.DEFAULT)) {
+            return assetService.search(criteria, order, cursor, limit);
+        }
+        if (filters.equals(AssetSearchCriteria.NONE)) {
+            return assetService.findPage(cursor, limit);
+        }
+        if (isCategoryAndStatusOnly(filters)) {
+            return assetService.findPageByCategoryAndStatus(filters.category(), filters.status(), cursor, limit);
+        }
+        if (isLocationOnly(filters)) {
+            return assetService.findPageByLocation(filters.location(), cursor, limit);
+        }
+        return assetService.search(criteria, order, cursor, limit);
+    }
+
+    private CursorPage<AssetSummary> listSummaries(
+        AssetSearchCriteria criteria,
+        AssetSort order,
+        String cursor,
+        Integer limit
+    ) {
+        AssetSearchCriteria filters = criteria.normalized();
+        if (!order.equals(AssetSort.DEFAULT)) {
+            return assetService.searchSummaries(criteria, order, cursor, limit);
+        }
+        if (filters.equals(AssetSearchCriteria.NONE)) {
+            return assetService.findSummaryPage(cursor, limit);
+        }
+        if (isCategoryAndStatusOnly(filters)) {
+            return assetService.findSummaryPageByCategoryAndStatus(filters.category(), filters.status(), cursor, limit);
+        }
+        if (isLocationOnly(filters)) {
+            return assetService.findSummaryPageByLocation(filters.location(), cursor, limit);
+        }
+        return assetService.searchSummaries(criteria, order, cursor, limit);
+    }
+
+    // The fixed combinations keep their derived keyset queries and projection; the rest go through search.
+    private static boolean isCategoryAndStatusOnly(AssetSearchCriteria filters) {
+        return filters.category() != null && filters.status() != null
+            && filters.equals(AssetSearchCriteria.byCategoryAndStatus(filters.category(), filters.status()));
+    }
+
+    private static boolean isLocationOnly(AssetSearchCriteria filters) {
+        return filters.location() != null && filters.equals(AssetSearchCriteria.byLocation(filters.location()));
+    }
+
+    private <T> ResponseEntity<List<T>> pageResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, page.nextCursor());
         }
-        return ResponseEntity.ok(assetService.findAll());
+        return builder.body(page.items());
     }
 }
@@ -0,0 +1,49 @@
+package com.rail.asset.api;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetVersion;
+
+// Strong validators of the form "<id>.<version>"; the id keeps code lookups from matching a
+// different asset that later reuses the same code at the same version number.
+final class AssetETags {
+
+    private AssetETags() {
+    }
+
+    static String of(Asset asset) {
+        return of(asset.getId(), asset.getVersion());
+    }
+
+    static String of(AssetVersion version) {
+        return of(version.id(), version.version());
+    }
+
+    static String of(Long id, Long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    // If-None-Match uses weak comparison, so a W/ prefix on the client's copy is ignored.
+    static boolean matchesIfNoneMatch(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // If-Match uses strong comparison: weak validators never match.
+    static boolean matchesIfMatch(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.facet.AssetFacetCounter;
+import com.rail.asset.service.facet.AssetFacets;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/assets/facets")
+public class AssetFacetController {
+
+    private final AssetFacetCounter assetFacetCounter;
+
+    public AssetFacetController(AssetFacetCounter assetFacetCounter) {
+        this.assetFacetCounter = assetFacetCounter;
+    }
+
+    @GetMapping
+    public ResponseEntity<AssetFacets> facets() {
+        return ResponseEntity.ok(assetFacetCounter.facets());
+    }
+}
@@ -0,0 +1,50 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.feed.AssetChangeFeed;
+import com.rail.asset.service.feed.AssetFeedFilter;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/assets/feed")
+public class AssetFeedController {
+
+    private final AssetChangeFeed assetChangeFeed;
+    private final long timeoutMillis;
+
+    public AssetFeedController(
+        AssetChangeFeed assetChangeFeed,
+        @Value("${rail.asset.feed.timeout:PT30M}") Duration timeout
+    ) {
+        this.assetChangeFeed = assetChangeFeed;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+        @RequestParam(required = false) String category,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String location
+    ) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AssetChangeFeed.Subscription subscription;
+        try {
+            subscription = assetChangeFeed.subscribe(
+                AssetFeedFilter.of(category, status, location), new SseEmitterFeedSink(emitter));
+        } catch (IllegalStateException ex) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), ex);
+        }
+        emitter.onCompletion(() -> assetChangeFeed.unsubscribe(subscription));
+        emitter.onTimeout(() -> assetChangeFeed.unsubscribe(subscription));
+        emitter.onError(ex -> assetChangeFeed.unsubscribe(subscription));
+        return emitter;
+    }
+}
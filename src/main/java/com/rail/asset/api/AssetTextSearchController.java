@@ -0,0 +1,39 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.text.AssetTextHit;
+import com.rail.asset.service.text.AssetTextIndex;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/assets/search")
+public class AssetTextSearchController {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final AssetTextIndex assetTextIndex;
+
+    public AssetTextSearchController(AssetTextIndex assetTextIndex) {
+        this.assetTextIndex = assetTextIndex;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AssetTextHit>> search(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) Integer limit
+    ) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        try {
+            return ResponseEntity.ok(assetTextIndex.search(query, size));
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+        }
+    }
+}
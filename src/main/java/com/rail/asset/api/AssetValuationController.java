@@ -0,0 +1,29 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.AssetValuationService;
+import com.rail.asset.service.PortfolioValuation;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/assets/valuation")
+public class AssetValuationController {
+
+    private final AssetValuationService assetValuationService;
+
+    public AssetValuationController(AssetValuationService assetValuationService) {
+        this.assetValuationService = assetValuationService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PortfolioValuation> valuation(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        return ResponseEntity.ok(assetValuationService.valueAt(asOf));
+    }
+}
@@ -0,0 +1,45 @@
+package com.rail.asset.api;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, CacheSnapshot>> cacheStats() {
+        Map<String, CacheSnapshot> snapshots = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof CaffeineCache caffeineCache) {
+                com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+                snapshots.put(name, new CacheSnapshot(
+                    nativeCache.estimatedSize(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.evictionCount()
+                ));
+            }
+        }
+        return ResponseEntity.ok(snapshots);
+    }
+
+    public record CacheSnapshot(long size, long hits, long misses, long evictions) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.rail.asset.api;
+
+import com.rail.asset.service.feed.AssetFeedSink;
+import java.io.IOException;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+final class SseEmitterFeedSink implements AssetFeedSink {
+
+    private final SseEmitter emitter;
+
+    SseEmitterFeedSink(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    @Override
+    public void send(String id, String name, String data) throws IOException {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        if (id != null) {
+            event.id(id);
+        }
+        emitter.send(event);
+    }
+
+    @Override
+    public void comment(String text) throws IOException {
+        emitter.send(SseEmitter.event().comment(text));
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,26 @@
+package com.rail.asset.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rail.bulkhead", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig {
+
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(
+            new BulkheadFilter(properties.limits(), properties.retryAfter(), meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // After Spring Security, which supplies the role, and before the global in-flight cap, so a
+        // request shed here never waits for a global permit.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,126 @@
+package com.rail.asset.config;
+
+import com.rail.asset.security.UserRole;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+// A full budget rejects at once with 429 and Retry-After; nothing queues here.
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+    private final Map<EndpointClass, Map<UserRole, Bulkhead>> bulkheads = new EnumMap<>(EndpointClass.class);
+    private final String retryAfterSeconds;
+
+    public BulkheadFilter(Map<EndpointClass, Map<UserRole, Integer>> limits, Duration retryAfter, MeterRegistry meterRegistry) {
+        limits.forEach((endpoint, roles) -> roles.forEach((role, limit) -> {
+            Bulkhead bulkhead = new Bulkhead(endpoint, role, limit, meterRegistry);
+            bulkheads.computeIfAbsent(endpoint, key -> new EnumMap<>(UserRole.class)).put(role, bulkhead);
+        }));
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        Bulkhead bulkhead = bulkheadFor(request);
+        if (bulkhead == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!bulkhead.permits.tryAcquire()) {
+            bulkhead.rejected.increment();
+            response.setStatus(429);
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Too many concurrent " + bulkhead.endpoint.name().toLowerCase(Locale.ROOT)
+                + " requests for role " + bulkhead.role.name() + "\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    int inFlight(EndpointClass endpoint, UserRole role) {
+        Bulkhead bulkhead = bulkheads.getOrDefault(endpoint, Map.of()).get(role);
+        return bulkhead == null ? 0 : bulkhead.inFlight();
+    }
+
+    private Bulkhead bulkheadFor(HttpServletRequest request) {
+        // Decoded like Spring MVC's routing, so an encoded path is charged to the endpoint it reaches.
+        EndpointClass endpoint = EndpointClass.of(request.getMethod(), PATH_HELPER.getPathWithinApplication(request));
+        Map<UserRole, Bulkhead> byRole = endpoint == null ? null : bulkheads.get(endpoint);
+        if (byRole == null) {
+            return null;
+        }
+        UserRole role = roleOf(SecurityContextHolder.getContext().getAuthentication());
+        return role == null ? null : byRole.get(role);
+    }
+
+    // The most privileged role held, so an admin who also has the viewer role spends the admin budget.
+    private static UserRole roleOf(Authentication authentication) {
+        if (authentication == null) {
+            return null;
+        }
+        UserRole best = null;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            for (UserRole role : UserRole.values()) {
+                if (role.asAuthority().equals(authority.getAuthority()) && (best == null || role.ordinal() < best.ordinal())) {
+                    best = role;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static final class Bulkhead {
+        private final EndpointClass endpoint;
+        private final UserRole role;
+        private final int limit;
+        private final Semaphore permits;
+        private final Counter rejected;
+
+        private Bulkhead(EndpointClass endpoint, UserRole role, int limit, MeterRegistry meterRegistry) {
+            this.endpoint = endpoint;
+            this.role = role;
+            this.limit = limit;
+            this.permits = new Semaphore(limit);
+            String endpointTag = endpoint.name().toLowerCase(Locale.ROOT);
+            String roleTag = role.name().toLowerCase(Locale.ROOT);
+            this.rejected = Counter.builder("rail.bulkhead.rejected")
+                .tags("endpoint", endpointTag, "role", roleTag)
+                .register(meterRegistry);
+            Gauge.builder("rail.bulkhead.in_flight", this, Bulkhead::inFlight)
+                .tags("endpoint", endpointTag, "role", roleTag)
+                .register(meterRegistry);
+            Gauge.builder("rail.bulkhead.limit", () -> limit)
+                .tags("endpoint", endpointTag, "role", roleTag)
+                .register(meterRegistry);
+        }
+
+        private int inFlight() {
+            return limit - permits.availablePermits();
+        }
+    }
+}
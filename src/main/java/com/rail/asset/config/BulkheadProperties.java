@@ -0,0 +1,19 @@
+package com.rail.asset.config;
+
+import com.rail.asset.security.UserRole;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// A class and role pair without a limit is not bulkheaded.
+@ConfigurationProperties("rail.bulkhead")
+public record BulkheadProperties(
+    Map<EndpointClass, Map<UserRole, Integer>> limits,
+    @DefaultValue("PT1S") Duration retryAfter
+) {
+
+    public BulkheadProperties {
+        limits = limits == null ? Map.of() : limits;
+    }
+}
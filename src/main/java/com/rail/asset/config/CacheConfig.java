@@ -0,0 +1,11 @@
+package com.rail.asset.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+// Run the cache advice outside the transaction advice so hits never open a transaction or borrow a connection.
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+}
@@ -0,0 +1,29 @@
+package com.rail.asset.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rail.concurrency", name = "max-in-flight")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+        @Value("${rail.concurrency.max-in-flight}") int maxInFlight,
+        @Value("${rail.concurrency.acquire-timeout:PT1S}") Duration acquireTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(maxInFlight, acquireTimeout, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // After Spring Security, so rejected credentials never hold a permit, and after the bulkheads.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
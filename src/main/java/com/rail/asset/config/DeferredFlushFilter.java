@@ -0,0 +1,110 @@
+package com.rail.asset.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Tomcat only applies the compression threshold when it knows the Content-Length, so flushes of
+// compressible, non-streaming responses are held back until the body is complete.
+public class DeferredFlushFilter extends OncePerRequestFilter {
+
+    private final List<String> compressibleTypes;
+
+    public DeferredFlushFilter(List<String> compressibleTypes) {
+        this.compressibleTypes = compressibleTypes.stream().map(type -> type.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        filterChain.doFilter(request, new DeferredFlushResponse(request, response));
+    }
+
+    private boolean deferred(HttpServletRequest request, HttpServletResponse response) {
+        if (request.isAsyncStarted()) {
+            return false;
+        }
+        String contentType = response.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        int parameters = contentType.indexOf(';');
+        String mimeType = (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim();
+        return compressibleTypes.contains(mimeType.toLowerCase(Locale.ROOT));
+    }
+
+    private final class DeferredFlushResponse extends HttpServletResponseWrapper {
+        private final HttpServletRequest request;
+        private ServletOutputStream outputStream;
+
+        private DeferredFlushResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DeferredFlushOutputStream(this, super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (!deferred(request, this)) {
+                super.flushBuffer();
+            }
+        }
+    }
+
+    private final class DeferredFlushOutputStream extends ServletOutputStream {
+        private final DeferredFlushResponse response;
+        private final ServletOutputStream delegate;
+
+        private DeferredFlushOutputStream(DeferredFlushResponse response, ServletOutputStream delegate) {
+            this.response = response;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!deferred(response.request, response)) {
+                delegate.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rail.asset.config;
+
+import java.util.regex.Pattern;
+
+// Bulk covers anything that walks the whole register or streams a large body.
+public enum EndpointClass {
+    LOOKUP,
+    LIST,
+    WRITE,
+    BULK;
+
+    private static final Pattern LOOKUPS = Pattern.compile(
+        "/api/assets/(\\d+|code/[^/]+|search|facets|locations|analytics)|/api/reports/[^/]+|/api/admin/.*");
+
+    // Null outside the bulkheads; the change feed has its own subscriber limit.
+    public static EndpointClass of(String method, String path) {
+        if (!path.startsWith("/api/") || path.startsWith("/api/assets/feed")) {
+            return null;
+        }
+        if (path.startsWith("/api/assets/bulk") || path.equals("/api/assets/export")
+            || path.equals("/api/assets/valuation") || path.startsWith("/api/reports/") && path.endsWith("/download")) {
+            return BULK;
+        }
+        // Viewers may submit reports, and every submission counts the whole register.
+        if ("POST".equals(method) && path.equals("/api/reports")) {
+            return BULK;
+        }
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return WRITE;
+        }
+        return LOOKUPS.matcher(path).matches() ? LOOKUP : LIST;
+    }
+}
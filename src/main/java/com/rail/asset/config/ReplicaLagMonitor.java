@@ -0,0 +1,111 @@
+package com.rail.asset.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// A replica's lag is the age of the newest heartbeat stamp it shows. Probing before stamping gives every
+// replica a full check interval to apply the previous stamp.
+public class ReplicaLagMonitor {
+
+    private static final String SELECT_BEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+    private static final String UPDATE_BEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+    private static final String INSERT_BEAT = "INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)";
+
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private final ReplicaRoutingDataSource routing;
+    private final Duration lagTolerance;
+    private final Clock clock;
+
+    public ReplicaLagMonitor(
+        DataSource primary,
+        ReplicaRoutingDataSource routing,
+        Duration lagTolerance,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        this.primary = new JdbcTemplate(primary);
+        this.routing = routing;
+        this.lagTolerance = lagTolerance;
+        this.clock = clock;
+        routing.replicas().forEach((name, dataSource) -> {
+            replicas.put(name, new JdbcTemplate(dataSource));
+            Gauge.builder("rail.datasource.replica.lag", this, monitor -> monitor.lagSeconds(name))
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${rail.datasource.replica-check-interval:PT1S}")
+    public synchronized void check() {
+        Instant now = clock.instant();
+        Instant latest = beatOn(primary);
+        replicas.forEach((name, replica) -> {
+            Duration lag = lagOf(replica, latest, now);
+            if (lag == null) {
+                lags.remove(name);
+            } else {
+                lags.put(name, lag);
+            }
+            routing.setHealthy(name, lag != null && lag.compareTo(lagTolerance) <= 0);
+        });
+        routing.pruneStickiness();
+        stamp(now);
+    }
+
+    public Duration lagOf(String replica) {
+        return lags.get(replica);
+    }
+
+    private double lagSeconds(String replica) {
+        Duration lag = lags.get(replica);
+        return lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+    }
+
+    // Unknown (null) when the replica cannot be reached or has never received a stamp.
+    private static Duration lagOf(JdbcTemplate replica, Instant latest, Instant now) {
+        Instant seen = beatOn(replica);
+        if (seen == null) {
+            return null;
+        }
+        if (latest == null || !seen.isBefore(latest)) {
+            return Duration.ZERO;
+        }
+        Duration lag = Duration.between(seen, now);
+        return lag.isNegative() ? Duration.ZERO : lag;
+    }
+
+    private static Instant beatOn(JdbcTemplate jdbc) {
+        try {
+            List<Timestamp> beats = jdbc.queryForList(SELECT_BEAT, Timestamp.class);
+            return beats.isEmpty() ? null : beats.get(0).toInstant();
+        } catch (DataAccessException ex) {
+            return null;
+        }
+    }
+
+    private void stamp(Instant now) {
+        Timestamp beat = Timestamp.from(now);
+        try {
+            if (primary.update(UPDATE_BEAT, beat) == 0) {
+                primary.update(INSERT_BEAT, beat);
+            }
+        } catch (DataAccessException ex) {
+            // Another instance inserted the row first, or the primary is down; the next check tries again.
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.rail.asset.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+// Primary plus replica pools once replica URLs are configured; replicas copy the primary's pool settings.
+@Configuration
+@ConditionalOnProperty(prefix = "rail.datasource", name = "replica-urls")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        @Value("${rail.datasource.replica-urls}") List<String> replicaUrls,
+        @Value("${rail.datasource.replica-username:}") String username,
+        @Value("${rail.datasource.replica-password:}") String password,
+        @Value("${rail.datasource.read-your-writes-window:PT5S}") Duration readYourWritesWindow,
+        ObjectProvider<AuditorAware<String>> auditorProvider,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        Map<String, HikariDataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (StringUtils.hasText(url)) {
+                String name = "replica-" + replicas.size();
+                replicas.put(name, replicaPool(primaryDataSource, name, url.trim(), username, password, meterRegistry));
+            }
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+            () -> auditorProvider.getObject().getCurrentAuditor().orElse("system"),
+            readYourWritesWindow, clock, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        HikariDataSource primaryDataSource,
+        ReplicaRoutingDataSource replicaRoutingDataSource,
+        @Value("${rail.datasource.replica-lag-tolerance:PT2S}") Duration lagTolerance,
+        @Value("${rail.asset.sync.settle-window:PT5S}") Duration settleWindow,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        // Delta sync hands out tokens up to the settle window in the past; a replica further behind than
+        // that could answer a sync before it has applied rows older than the token, and they would be skipped.
+        if (lagTolerance.compareTo(settleWindow) >= 0) {
+            throw new IllegalStateException("rail.datasource.replica-lag-tolerance (" + lagTolerance
+                + ") must be shorter than rail.asset.sync.settle-window (" + settleWindow + ")");
+        }
+        return new ReplicaLagMonitor(primaryDataSource, replicaRoutingDataSource, lagTolerance, clock, meterRegistry);
+    }
+
+    private static HikariDataSource replicaPool(
+        HikariDataSource primary,
+        String name,
+        String url,
+        String username,
+        String password,
+        MeterRegistry meterRegistry
+    ) {
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        if (StringUtils.hasText(username)) {
+            config.setUsername(username);
+            config.setPassword(password);
+        }
+        config.setReadOnly(true);
+        // A replica that is down at startup is simply left unhealthy by the lag monitor.
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
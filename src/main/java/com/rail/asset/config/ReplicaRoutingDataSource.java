@@ -0,0 +1,154 @@
+package com.rail.asset.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Read-only transactions go to a replica within the lag tolerance, everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy, since the read-only flag is only known once the
+// transaction has begun.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+    private static final Object PRIMARY_READ = new Object();
+
+    private final Map<String, HikariDataSource> replicas;
+    private final Set<String> healthy = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Supplier<String> clients;
+    private final long readYourWritesMillis;
+    private final Clock clock;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+    private final Counter pinnedReads;
+    private volatile String[] routable = new String[0];
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        Map<String, HikariDataSource> replicas,
+        Supplier<String> clients,
+        Duration readYourWritesWindow,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.clients = clients;
+        this.readYourWritesMillis = readYourWritesWindow.toMillis();
+        this.clock = clock;
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.stickyReads = readCounter(meterRegistry, "sticky");
+        this.fallbackReads = readCounter(meterRegistry, "fallback");
+        this.pinnedReads = readCounter(meterRegistry, "pinned");
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String route) {
+        return Counter.builder("rail.datasource.reads").tag("route", route).register(meterRegistry);
+    }
+
+    // Keeps the current read-only transaction on the primary. Reads that fill a cache shared by all users
+    // need this: stickiness is per user, so a replica row cached by one reader would be served to the writer.
+    public static void readFromPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+            || TransactionSynchronizationManager.hasResource(PRIMARY_READ)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_READ);
+            }
+        });
+    }
+
+    public Map<String, HikariDataSource> replicas() {
+        return replicas;
+    }
+
+    // Replicas start out unhealthy until the lag monitor's first probe.
+    public void setHealthy(String replica, boolean isHealthy) {
+        boolean changed = isHealthy ? healthy.add(replica) : healthy.remove(replica);
+        if (changed) {
+            // Keep configuration order so round-robin stays even across changes.
+            routable = replicas.keySet().stream().filter(healthy::contains).toArray(String[]::new);
+        }
+    }
+
+    public boolean isHealthy(String replica) {
+        return healthy.contains(replica);
+    }
+
+    public void pruneStickiness() {
+        long now = clock.millis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+                stickAfterCommit(clients.get());
+            }
+            return PRIMARY;
+        }
+
+        if (TransactionSynchronizationManager.hasResource(PRIMARY_READ)) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+
+        String client = clients.get();
+        Long until = stickyUntil.get(client);
+        if (until != null) {
+            if (until > clock.millis()) {
+                stickyReads.increment();
+                return PRIMARY;
+            }
+            stickyUntil.remove(client, until);
+        }
+
+        String[] candidates = routable;
+        if (candidates.length == 0) {
+            fallbackReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+    }
+
+    private void stickAfterCommit(String client) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(client, clock.millis() + readYourWritesMillis);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
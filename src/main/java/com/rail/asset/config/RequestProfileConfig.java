@@ -0,0 +1,59 @@
+package com.rail.asset.config;
+
+import com.rail.asset.metrics.RequestProfileAspect;
+import com.rail.asset.metrics.StatementAccountingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "rail.request-profile", name = "enabled", havingValue = "true")
+public class RequestProfileConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    // Wraps the routing proxy rather than the pools, so statements count whichever pool serves them.
+    @Bean
+    public static BeanPostProcessor statementAccountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (DATA_SOURCE_BEAN.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new StatementAccountingListener())
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public RequestProfileAspect requestProfileAspect() {
+        return new RequestProfileAspect();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfileFilter> requestProfileFilter(
+        @Value("${rail.request-profile.server-timing:true}") boolean serverTiming,
+        @Value("${rail.request-profile.slow-request:PT1S}") Duration slowRequest,
+        @Value("${rail.request-profile.max-statements:20}") int maxStatements,
+        @Value("${rail.request-profile.slowest-statements:3}") int slowestStatements,
+        MeterRegistry meterRegistry
+    ) {
+        FilterRegistrationBean<RequestProfileFilter> registration = new FilterRegistrationBean<>(
+            new RequestProfileFilter(serverTiming, slowRequest, maxStatements, slowestStatements, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        // Ahead of Spring Security, so authentication is part of the profile.
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,230 @@
+package com.rail.asset.config;
+
+import com.rail.asset.metrics.RequestProfile;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Server-Timing must go out before the body, so the body is held back until it outgrows the buffer or is flushed.
+public class RequestProfileFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfileFilter.class);
+
+    private final boolean serverTiming;
+    private final long slowRequestNanos;
+    private final int maxStatements;
+    private final int slowestStatements;
+    private final MeterRegistry meterRegistry;
+
+    public RequestProfileFilter(
+        boolean serverTiming,
+        Duration slowRequest,
+        int maxStatements,
+        int slowestStatements,
+        MeterRegistry meterRegistry
+    ) {
+        this.serverTiming = serverTiming;
+        this.slowRequestNanos = slowRequest.toNanos();
+        this.maxStatements = maxStatements;
+        this.slowestStatements = slowestStatements;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start(slowestStatements);
+        ServerTimingResponse timed = serverTiming ? new ServerTimingResponse(response, profile) : null;
+        try {
+            filterChain.doFilter(request, timed == null ? response : timed);
+            if (timed != null) {
+                // An async response keeps writing after this returns, so it gets the header now.
+                timed.complete(!request.isAsyncStarted());
+            }
+        } finally {
+            RequestProfile.end();
+        }
+        if (!request.isAsyncStarted()) {
+            report(request, response, profile);
+        }
+    }
+
+    private void report(HttpServletRequest request, HttpServletResponse response, RequestProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder("rail.request.statements")
+            .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+            .register(meterRegistry)
+            .record(profile.statements());
+        long elapsed = profile.elapsedNanos();
+        if (elapsed >= slowRequestNanos || profile.statements() > maxStatements) {
+            log.warn("Slow request {} {} -> {} in {} ms: {}", request.getMethod(), request.getRequestURI(),
+                response.getStatus(), elapsed / 1_000_000, profile.summary());
+        }
+    }
+
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+        private final RequestProfile profile;
+        private ByteArrayOutputStream held = new ByteArrayOutputStream();
+        private HoldingOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean released;
+        private boolean completing;
+
+        private ServerTimingResponse(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new HoldingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            release();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            release();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            release();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            release();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (!released) {
+                held.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (!released) {
+                held.reset();
+            }
+            super.reset();
+        }
+
+        // Writes the held body without flushing, so small bodies keep a known length.
+        private void complete(boolean finished) throws IOException {
+            if (finished && writer != null) {
+                completing = true;
+                writer.flush();
+            }
+            release();
+        }
+
+        private void release() throws IOException {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (!super.isCommitted()) {
+                setHeader(SERVER_TIMING, profile.serverTiming());
+            }
+            if (held.size() > 0) {
+                held.writeTo(outputStream.target);
+            }
+            held = null;
+        }
+
+        private final class HoldingOutputStream extends ServletOutputStream {
+            private final ServletOutputStream target;
+
+            private HoldingOutputStream(ServletOutputStream target) {
+                this.target = target;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                if (!released && held.size() < getBufferSize()) {
+                    held.write(b);
+                    return;
+                }
+                release();
+                target.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (!released && held.size() + len <= getBufferSize()) {
+                    held.write(b, off, len);
+                    return;
+                }
+                release();
+                target.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (completing) {
+                    return;
+                }
+                release();
+                target.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                release();
+                target.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return !released || target.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                target.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.rail.asset.config;
+
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "server.compression", name = "enabled", havingValue = "true")
+public class ResponseCompressionConfig {
+
+    @Bean
+    public FilterRegistrationBean<DeferredFlushFilter> deferredFlushFilter(ServerProperties serverProperties) {
+        FilterRegistrationBean<DeferredFlushFilter> registration = new FilterRegistrationBean<>(
+            new DeferredFlushFilter(List.of(serverProperties.getCompression().getMimeTypes())));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
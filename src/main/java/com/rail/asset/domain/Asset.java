@@ -1,5 +1,6 @@
 package com.rail.asset.domain;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -7,8 +8,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -22,7 +26,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Table(name = "assets", indexes = {
         @Index(name = "idx_asset_category_status", columnList = "category,status"),
         @Index(name = "idx_asset_location_code", columnList = "location_code"),
-        @Index(name = "idx_asset_last_inspection_date", columnList = "last_inspection_date")
+        @Index(name = "idx_asset_last_inspection_date", columnList = "last_inspection_date"),
+        @Index(name = "idx_asset_next_inspection_due", columnList = "next_inspection_due"),
+        @Index(name = "idx_asset_location_due", columnList = "location_code,next_inspection_due"),
+        @Index(name = "idx_asset_category_due", columnList = "category,next_inspection_due"),
+        @Index(name = "idx_asset_updated_at_id", columnList = "updated_at,id"),
+        @Index(name = "idx_asset_status_location", columnList = "status,location_code"),
+        @Index(name = "idx_asset_install_date", columnList = "install_date"),
+        @Index(name = "idx_asset_manufacturer_model", columnList = "manufacturer,model_number")
 }, uniqueConstraints = {
         @UniqueConstraint(name = "uk_asset_code", columnNames = "asset_code")
 })
@@ -69,6 +80,9 @@ public class Asset {
     @Column(name = "last_inspection_date")
     private LocalDate lastInspectionDate;
 
+    @Column(name = "next_inspection_due")
+    private LocalDate nextInspectionDue;
+
     @Column(name = "depreciation_rate", precision = 5, scale = 2)
     private BigDecimal depreciationRate;
 
@@ -94,6 +108,11 @@ public class Asset {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     protected Asset() {
         // JPA constructor
     }
@@ -237,6 +256,17 @@ public class Asset {
         this.lastInspectionDate = lastInspectionDate;
     }
 
+    public LocalDate getNextInspectionDue() {
+        return nextInspectionDue;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshNextInspectionDue() {
+        LocalDate base = lastInspectionDate != null ? lastInspectionDate : installDate;
+        nextInspectionDue = base == null || maintenanceCycleDays == null ? null : base.plusDays(maintenanceCycleDays);
+    }
+
     public BigDecimal getDepreciationRate() {
         return depreciationRate;
     }
@@ -292,4 +322,12 @@ public class Asset {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,4 @@
+package com.rail.asset.domain;
+
+public record AssetFacetCount(String category, String status, String locationCode, long count) {
+}
@@ -0,0 +1,4 @@
+package com.rail.asset.domain;
+
+public record AssetLocationCount(String locationCode, long count) {
+}
@@ -0,0 +1,17 @@
+package com.rail.asset.domain;
+
+// List-view projection; leaves out notes and audit columns so they are never selected.
+public record AssetSummary(
+    Long id,
+    String assetCode,
+    String name,
+    String category,
+    String status,
+    String locationCode
+) {
+
+    public static AssetSummary of(Asset asset) {
+        return new AssetSummary(asset.getId(), asset.getAssetCode(), asset.getName(), asset.getCategory(),
+            asset.getStatus(), asset.getLocationCode());
+    }
+}
@@ -0,0 +1,47 @@
+package com.rail.asset.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+@Entity
+@Table(name = "asset_tombstones", indexes = {
+        @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at,asset_id")
+})
+public class AssetTombstone {
+
+    @Id
+    @Column(name = "asset_id")
+    private Long assetId;
+
+    @Column(name = "asset_code", nullable = false, length = 64)
+    private String assetCode;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    protected AssetTombstone() {
+        // JPA constructor
+    }
+
+    public AssetTombstone(Long assetId, String assetCode, Instant deletedAt) {
+        this.assetId = assetId;
+        this.assetCode = assetCode;
+        this.deletedAt = deletedAt;
+    }
+
+    public Long getAssetId() {
+        return assetId;
+    }
+
+    public String getAssetCode() {
+        return assetCode;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
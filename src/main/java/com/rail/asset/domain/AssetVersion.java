@@ -0,0 +1,5 @@
+package com.rail.asset.domain;
+
+// Identity and optimistic-lock version only, enough to evaluate conditional requests.
+public record AssetVersion(Long id, Long version) {
+}
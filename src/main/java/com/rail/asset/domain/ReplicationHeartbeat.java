@@ -0,0 +1,32 @@
+package com.rail.asset.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+// Mapped only so the heartbeat table is created and validated with the rest of the schema.
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "beat_at", nullable = false)
+    private Instant beatAt;
+
+    protected ReplicationHeartbeat() {
+        // JPA constructor
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Instant getBeatAt() {
+        return beatAt;
+    }
+}
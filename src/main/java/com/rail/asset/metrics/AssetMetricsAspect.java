@@ -0,0 +1,69 @@
+package com.rail.asset.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+// Outermost advice, so service timings include cache hits and the full transaction.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AssetMetricsAspect {
+
+    static final String SERVICE_TIMER = "rail.asset.service";
+    static final String API_TIMER = "rail.asset.api";
+
+    private final MeterRegistry meterRegistry;
+
+    public AssetMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.rail.asset.service.AssetService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            stop(sample, SERVICE_TIMER, joinPoint, "SUCCESS", null);
+            return result;
+        } catch (Throwable ex) {
+            stop(sample, SERVICE_TIMER, joinPoint, "ERROR", ex);
+            throw ex;
+        }
+    }
+
+    @Around("execution(public * com.rail.asset.api.AssetController.*(..))")
+    public Object timeEndpoint(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            Object result = joinPoint.proceed();
+            String outcome = result instanceof ResponseEntity<?> response
+                ? Outcome.forStatus(response.getStatusCode().value()).name()
+                : Outcome.SUCCESS.name();
+            stop(sample, API_TIMER, joinPoint, outcome, null);
+            return result;
+        } catch (ResponseStatusException ex) {
+            stop(sample, API_TIMER, joinPoint, Outcome.forStatus(ex.getStatusCode().value()).name(), ex);
+            throw ex;
+        } catch (Throwable ex) {
+            stop(sample, API_TIMER, joinPoint, Outcome.SERVER_ERROR.name(), ex);
+            throw ex;
+        }
+    }
+
+    private void stop(Timer.Sample sample, String name, ProceedingJoinPoint joinPoint, String outcome, Throwable error) {
+        sample.stop(Timer.builder(name)
+            .tag("operation", joinPoint.getSignature().getName())
+            .tag("outcome", outcome)
+            .tag("exception", error == null ? "none" : error.getClass().getSimpleName())
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,115 @@
+package com.rail.asset.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// Bound to the request thread; work handed to other threads (report workers, streamed exports) is not counted.
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final int slowestKept;
+    private final List<Statement> slowest = new ArrayList<>();
+    private int statements;
+    private long authNanos;
+    private long dbNanos;
+    private long serviceNanos;
+    private long handlerEndNanos;
+
+    private RequestProfile(int slowestKept) {
+        this.slowestKept = slowestKept;
+    }
+
+    public static RequestProfile start(int slowestKept) {
+        RequestProfile profile = new RequestProfile(slowestKept);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static void recordAuthentication(long nanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.authNanos += nanos;
+        }
+    }
+
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        statements++;
+        dbNanos += nanos;
+        if (slowestKept == 0) {
+            return;
+        }
+        int position = slowest.size();
+        while (position > 0 && slowest.get(position - 1).nanos() < nanos) {
+            position--;
+        }
+        if (position < slowestKept) {
+            slowest.add(position, new Statement(sql, nanos));
+            if (slowest.size() > slowestKept) {
+                slowest.remove(slowest.size() - 1);
+            }
+        }
+    }
+
+    long dbNanos() {
+        return dbNanos;
+    }
+
+    // Handler time less the statements it ran, so service and db never count the same interval twice.
+    void recordHandler(long nanos, long handlerDbNanos) {
+        serviceNanos += Math.max(0, nanos - handlerDbNanos);
+        handlerEndNanos = System.nanoTime();
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public List<Statement> slowest() {
+        return List.copyOf(slowest);
+    }
+
+    // Serialization is only complete once the body has been written.
+    public String serverTiming() {
+        long now = System.nanoTime();
+        long serialization = handlerEndNanos == 0 ? 0 : now - handlerEndNanos;
+        return "auth;dur=" + millis(authNanos)
+            + ", db;dur=" + millis(dbNanos) + ";desc=\"" + statements + " statements\""
+            + ", service;dur=" + millis(serviceNanos)
+            + ", serialization;dur=" + millis(serialization)
+            + ", total;dur=" + millis(now - startNanos);
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder()
+            .append(statements).append(" statements, ")
+            .append(millis(dbNanos)).append(" ms in database");
+        if (!slowest.isEmpty()) {
+            summary.append("; slowest:");
+            slowest.forEach(statement -> summary.append(" [").append(millis(statement.nanos())).append(" ms] ")
+                .append(statement.sql()));
+        }
+        return summary.toString();
+    }
+
+    static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    public record Statement(String sql, long nanos) {
+    }
+}
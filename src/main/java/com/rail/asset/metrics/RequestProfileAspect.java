@@ -0,0 +1,25 @@
+package com.rail.asset.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+// Times controller methods for the service part of Server-Timing.
+@Aspect
+public class RequestProfileAspect {
+
+    @Around("within(com.rail.asset.api..*) && @within(org.springframework.web.bind.annotation.RestController)")
+    public Object profileHandler(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            return joinPoint.proceed();
+        }
+        long dbBefore = profile.dbNanos();
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            profile.recordHandler(System.nanoTime() - started, profile.dbNanos() - dbBefore);
+        }
+    }
+}
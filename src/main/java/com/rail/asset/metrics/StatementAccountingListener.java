@@ -0,0 +1,35 @@
+package com.rail.asset.metrics;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+// Adds every statement executed on a request thread to that request's profile. A JDBC batch counts
+// as one statement, since it is one round trip.
+public class StatementAccountingListener implements QueryExecutionListener {
+
+    private static final String STARTED = StatementAccountingListener.class.getName() + ".started";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestProfile.current() != null) {
+            execInfo.addCustomValue(STARTED, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = RequestProfile.current();
+        Long started = execInfo.getCustomValue(STARTED, Long.class);
+        if (profile == null || started == null) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.isBatch()) {
+            sql = "batch of " + execInfo.getBatchSize() + ": " + sql;
+        }
+        profile.recordStatement(sql, System.nanoTime() - started);
+    }
+}
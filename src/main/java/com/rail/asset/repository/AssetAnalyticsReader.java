@@ -0,0 +1,55 @@
+package com.rail.asset.repository;
+
+import java.time.LocalDate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Reads only the columns held by the analytics snapshot, with cost already scaled to cents by the database.
+@Repository
+public class AssetAnalyticsReader {
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final String CHUNK_SQL = """
+        select id, category, status, location_code, manufacturer, install_date, acquisition_cost * 100
+        from assets
+        where id > ?
+        order by id
+        limit ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AssetAnalyticsReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the last id read, or afterId when there are no more rows. Missing values arrive as NONE.
+    public long readChunk(long afterId, int limit, RowHandler handler) {
+        long[] lastId = {afterId};
+        jdbcTemplate.query(CHUNK_SQL, rs -> {
+            lastId[0] = rs.getLong(1);
+            LocalDate installDate = rs.getObject(6, LocalDate.class);
+            long costCents = rs.getLong(7);
+            if (rs.wasNull()) {
+                costCents = NONE;
+            }
+            handler.row(lastId[0], rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5),
+                installDate == null ? NONE : installDate.toEpochDay(), costCents);
+        }, afterId, limit);
+        return lastId[0];
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(
+            long id,
+            String category,
+            String status,
+            String locationCode,
+            String manufacturer,
+            long installEpochDay,
+            long costCents
+        );
+    }
+}
@@ -0,0 +1,179 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.Asset;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AssetJdbcWriter {
+
+    private static final String INSERT_SQL = """
+        insert into assets (
+            asset_code, name, category, sub_category, manufacturer, model_number, serial_number,
+            install_date, status, location_code, maintenance_cycle_days, last_inspection_date,
+            depreciation_rate, acquisition_cost, notes, next_inspection_due,
+            created_by, last_modified_by, created_at, updated_at, version
+        ) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+        """;
+
+    private static final String H2_UPSERT_SQL = """
+        merge into assets t
+        using (values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)) s (
+            asset_code, name, category, sub_category, manufacturer, model_number, serial_number,
+            install_date, status, location_code, maintenance_cycle_days, last_inspection_date,
+            depreciation_rate, acquisition_cost, notes, next_inspection_due,
+            created_by, last_modified_by, created_at, updated_at
+        )
+        on t.asset_code = s.asset_code
+        when matched then update set
+            name = s.name, category = s.category, sub_category = s.sub_category,
+            manufacturer = s.manufacturer, model_number = s.model_number, serial_number = s.serial_number,
+            install_date = s.install_date, status = s.status, location_code = s.location_code,
+            maintenance_cycle_days = s.maintenance_cycle_days, last_inspection_date = s.last_inspection_date,
+            depreciation_rate = s.depreciation_rate, acquisition_cost = s.acquisition_cost, notes = s.notes,
+            next_inspection_due = s.next_inspection_due,
+            last_modified_by = s.last_modified_by, updated_at = s.updated_at, version = t.version + 1
+        when not matched then insert (
+            asset_code, name, category, sub_category, manufacturer, model_number, serial_number,
+            install_date, status, location_code, maintenance_cycle_days, last_inspection_date,
+            depreciation_rate, acquisition_cost, notes, next_inspection_due,
+            created_by, last_modified_by, created_at, updated_at, version
+        ) values (
+            s.asset_code, s.name, s.category, s.sub_category, s.manufacturer, s.model_number, s.serial_number,
+            s.install_date, s.status, s.location_code, s.maintenance_cycle_days, s.last_inspection_date,
+            s.depreciation_rate, s.acquisition_cost, s.notes, s.next_inspection_due,
+            s.created_by, s.last_modified_by, s.created_at, s.updated_at, 0
+        )
+        """;
+
+    private static final String MYSQL_UPSERT_SQL = INSERT_SQL + """
+        on duplicate key update
+            name = values(name), category = values(category), sub_category = values(sub_category),
+            manufacturer = values(manufacturer), model_number = values(model_number),
+            serial_number = values(serial_number), install_date = values(install_date), status = values(status),
+            location_code = values(location_code), maintenance_cycle_days = values(maintenance_cycle_days),
+            last_inspection_date = values(last_inspection_date), depreciation_rate = values(depreciation_rate),
+            acquisition_cost = values(acquisition_cost), notes = values(notes),
+            next_inspection_due = values(next_inspection_due),
+            last_modified_by = values(last_modified_by), updated_at = values(updated_at), version = version + 1
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    public AssetJdbcWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(List<Asset> assets, String auditor, Instant now) {
+        if (assets.isEmpty()) {
+            return;
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    Asset asset = assets.get(i);
+                    asset.setCreatedBy(auditor);
+                    asset.setLastModifiedBy(auditor);
+                    asset.setCreatedAt(now);
+                    asset.setUpdatedAt(now);
+                    asset.setVersion(0L);
+                    bindColumns(ps, asset);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return assets.size();
+                }
+            },
+            keyHolder
+        );
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < assets.size() && i < keys.size(); i++) {
+            Object id = keys.get(i).values().iterator().next();
+            assets.get(i).setId(((Number) id).longValue());
+        }
+    }
+
+    public void upsertBatch(List<Asset> assets, String auditor, Instant now) {
+        if (assets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(upsertSql(), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Asset asset = assets.get(i);
+                // created_* only take effect when the row is inserted; both upsert forms leave them alone on update.
+                asset.setCreatedBy(auditor);
+                asset.setLastModifiedBy(auditor);
+                asset.setCreatedAt(now);
+                asset.setUpdatedAt(now);
+                bindColumns(ps, asset);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return assets.size();
+            }
+        });
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = switch (product == null ? "" : product.toLowerCase(Locale.ROOT)) {
+                case "h2" -> H2_UPSERT_SQL;
+                case "mysql", "mariadb" -> MYSQL_UPSERT_SQL;
+                default -> throw new IllegalStateException("Bulk upsert is not supported on " + product);
+            };
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private static void bindColumns(PreparedStatement ps, Asset asset) throws SQLException {
+        asset.refreshNextInspectionDue();
+        ps.setString(1, asset.getAssetCode());
+        ps.setString(2, asset.getName());
+        ps.setString(3, asset.getCategory());
+        ps.setString(4, asset.getSubCategory());
+        ps.setString(5, asset.getManufacturer());
+        ps.setString(6, asset.getModelNumber());
+        ps.setString(7, asset.getSerialNumber());
+        ps.setObject(8, asset.getInstallDate(), Types.DATE);
+        ps.setString(9, asset.getStatus());
+        ps.setString(10, asset.getLocationCode());
+        ps.setObject(11, asset.getMaintenanceCycleDays(), Types.INTEGER);
+        ps.setObject(12, asset.getLastInspectionDate(), Types.DATE);
+        ps.setBigDecimal(13, asset.getDepreciationRate());
+        ps.setBigDecimal(14, asset.getAcquisitionCost());
+        ps.setString(15, asset.getNotes());
+        ps.setObject(16, asset.getNextInspectionDue(), Types.DATE);
+        ps.setString(17, asset.getCreatedBy());
+        ps.setString(18, asset.getLastModifiedBy());
+        ps.setObject(19, utc(asset.getCreatedAt()));
+        ps.setObject(20, utc(asset.getUpdatedAt()));
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant == null ? null : OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
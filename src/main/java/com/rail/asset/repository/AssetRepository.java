@@ -1,15 +1,76 @@
 package com.rail.asset.repository;
 
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetFacetCount;
+import com.rail.asset.domain.AssetLocationCount;
+import com.rail.asset.domain.AssetVersion;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AssetRepository extends JpaRepository<Asset, Long> {
+public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecificationExecutor<Asset>, AssetRepositoryCustom {
 
     Optional<Asset> findByAssetCode(String assetCode);
 
+    Optional<AssetVersion> findVersionById(Long id);
+
+    Optional<AssetVersion> findVersionByAssetCode(String assetCode);
+
     List<Asset> findByCategoryAndStatus(String category, String status);
 
     List<Asset> findByLocationCode(String locationCode);
+
+    List<Asset> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Asset> findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(String category, String status, Long id, Limit limit);
+
+    List<Asset> findByLocationCodeAndIdGreaterThanOrderByIdAsc(String locationCode, Long id, Limit limit);
+
+    <T> List<T> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit, Class<T> type);
+
+    <T> List<T> findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(
+        String category, String status, Long id, Limit limit, Class<T> type);
+
+    <T> List<T> findByLocationCodeAndIdGreaterThanOrderByIdAsc(String locationCode, Long id, Limit limit, Class<T> type);
+
+    List<Asset> findByAssetCodeIn(Collection<String> assetCodes);
+
+    // Keyset over (updated_at, id), served by idx_asset_updated_at_id.
+    @Query("""
+        select a from Asset a
+        where (a.updatedAt > :after or (a.updatedAt = :after and a.id > :afterId))
+          and a.updatedAt < :before
+        order by a.updatedAt, a.id
+        """)
+    List<Asset> findChangedAfter(
+        @Param("after") Instant after,
+        @Param("afterId") Long afterId,
+        @Param("before") Instant before,
+        Limit limit
+    );
+
+    @Query("""
+        select new com.rail.asset.domain.AssetFacetCount(a.category, a.status, a.locationCode, count(a))
+        from Asset a
+        group by a.category, a.status, a.locationCode
+        """)
+    List<AssetFacetCount> countByFacets();
+
+    @Query("""
+        select new com.rail.asset.domain.AssetLocationCount(a.locationCode, count(a))
+        from Asset a
+        where a.locationCode is not null
+        group by a.locationCode
+        """)
+    List<AssetLocationCount> countByLocation();
+
+    @Query("select a.assetCode from Asset a where a.assetCode in :codes")
+    Set<String> findExistingAssetCodes(@Param("codes") Collection<String> codes);
 }
@@ -0,0 +1,36 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface AssetRepositoryCustom {
+
+    Stream<Asset> streamAll(int fetchSize);
+
+    List<Asset> findInspectionDue(
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        String locationCode,
+        String category,
+        LocalDate afterDue,
+        Long afterId,
+        int limit
+    );
+
+    List<Asset> findWithinLocation(String locationCode, String prefix, String afterCode, Long afterId, int limit);
+
+    List<AssetSummary> findSummariesWithinLocation(
+        String locationCode,
+        String prefix,
+        String afterCode,
+        Long afterId,
+        int limit
+    );
+
+    // Selects only the summary columns, ordered by sortAttribute then id.
+    List<AssetSummaryRow> findSummaries(Specification<Asset> spec, String sortAttribute, boolean descending, int limit);
+}
@@ -0,0 +1,181 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+class AssetRepositoryImpl implements AssetRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '!';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Asset> streamAll(int fetchSize) {
+        return entityManager.createQuery("select a from Asset a order by a.id", Asset.class)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    @Override
+    public List<Asset> findInspectionDue(
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        String locationCode,
+        String category,
+        LocalDate afterDue,
+        Long afterId,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> asset = query.from(Asset.class);
+        Path<LocalDate> due = asset.get("nextInspectionDue");
+        Path<Long> id = asset.get("id");
+
+        // Only add the predicates that were asked for, so each combination maps onto one of the
+        // (location_code|category, next_inspection_due) or next_inspection_due indexes as a range scan.
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isNotNull(due));
+        if (dueFrom != null) {
+            predicates.add(cb.greaterThanOrEqualTo(due, dueFrom));
+        }
+        if (dueTo != null) {
+            predicates.add(cb.lessThanOrEqualTo(due, dueTo));
+        }
+        if (locationCode != null) {
+            predicates.add(cb.equal(asset.get("locationCode"), locationCode));
+        }
+        if (category != null) {
+            predicates.add(cb.equal(asset.get("category"), category));
+        }
+        if (afterDue != null) {
+            predicates.add(cb.or(
+                cb.greaterThan(due, afterDue),
+                cb.and(cb.equal(due, afterDue), cb.greaterThan(id, afterId))
+            ));
+        }
+        query.select(asset)
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(cb.asc(due), cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<Asset> findWithinLocation(String locationCode, String prefix, String afterCode, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Asset> query = cb.createQuery(Asset.class);
+        Root<Asset> asset = query.from(Asset.class);
+        query.select(asset)
+            .where(withinLocation(cb, asset, locationCode, prefix, afterCode, afterId))
+            .orderBy(cb.asc(asset.get("locationCode")), cb.asc(asset.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<AssetSummary> findSummariesWithinLocation(
+        String locationCode,
+        String prefix,
+        String afterCode,
+        Long afterId,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetSummary> query = cb.createQuery(AssetSummary.class);
+        Root<Asset> asset = query.from(Asset.class);
+        query.select(cb.construct(AssetSummary.class, asset.get("id"), asset.get("assetCode"), asset.get("name"),
+                asset.get("category"), asset.get("status"), asset.get("locationCode")))
+            .where(withinLocation(cb, asset, locationCode, prefix, afterCode, afterId))
+            .orderBy(cb.asc(asset.get("locationCode")), cb.asc(asset.get("id")));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private static Predicate[] withinLocation(
+        CriteriaBuilder cb,
+        Root<Asset> asset,
+        String locationCode,
+        String prefix,
+        String afterCode,
+        Long afterId
+    ) {
+        Path<String> location = asset.get("locationCode");
+        Path<Long> id = asset.get("id");
+
+        // A LIKE with a literal prefix is planned as a range scan on idx_asset_location_code, and the
+        // (location_code, id) order follows that index, so every page is one bounded index walk.
+        Predicate within = cb.like(location, escapeLike(prefix) + "%", LIKE_ESCAPE);
+        if (locationCode != null) {
+            within = cb.or(cb.equal(location, locationCode), within);
+        }
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(within);
+        if (afterCode != null) {
+            predicates.add(cb.or(
+                cb.greaterThan(location, afterCode),
+                cb.and(cb.equal(location, afterCode), cb.greaterThan(id, afterId))
+            ));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    @Override
+    public List<AssetSummaryRow> findSummaries(
+        Specification<Asset> spec,
+        String sortAttribute,
+        boolean descending,
+        int limit
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Asset> asset = query.from(Asset.class);
+        Path<Long> id = asset.get("id");
+        Path<Object> sortKey = asset.get(sortAttribute);
+
+        query.multiselect(id, asset.get("assetCode"), asset.get("name"), asset.get("category"),
+            asset.get("status"), asset.get("locationCode"), sortKey);
+        Predicate predicate = spec == null ? null : spec.toPredicate(asset, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> order = new ArrayList<>();
+        if (!"id".equals(sortAttribute)) {
+            order.add(descending ? cb.desc(sortKey) : cb.asc(sortKey));
+        }
+        order.add(descending ? cb.desc(id) : cb.asc(id));
+        query.orderBy(order);
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+            .map(row -> new AssetSummaryRow(new AssetSummary(row.get(0, Long.class), row.get(1, String.class),
+                row.get(2, String.class), row.get(3, String.class), row.get(4, String.class),
+                row.get(5, String.class)), row.get(6)))
+            .toList();
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 4);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.Asset;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+// Building blocks for dynamic asset searches. Absent values yield null, which Specification
+// composition skips, so only the requested predicates reach the SQL.
+public final class AssetSpecifications {
+
+    private AssetSpecifications() {
+    }
+
+    public static Specification<Asset> equalTo(String attribute, Object value) {
+        if (value == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    public static <Y extends Comparable<? super Y>> Specification<Asset> between(String attribute, Y from, Y to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Y> value = root.get(attribute);
+            if (from == null) {
+                return cb.lessThanOrEqualTo(value, to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(value, from);
+            }
+            return cb.between(value, from, to);
+        };
+    }
+
+    public static Specification<Asset> idBeyond(long lastId, boolean descending) {
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            return descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+        };
+    }
+
+    // H2 and MySQL sort nulls first ascending and last descending, so a null key means the cursor is
+    // still inside (ascending) or already in (descending) the rows without a value.
+    public static <Y extends Comparable<? super Y>> Specification<Asset> seekBeyond(
+        String attribute,
+        Y key,
+        long lastId,
+        boolean descending
+    ) {
+        return (root, query, cb) -> {
+            Path<Y> value = root.get(attribute);
+            Path<Long> id = root.get("id");
+            Predicate idBeyond = descending ? cb.lessThan(id, lastId) : cb.greaterThan(id, lastId);
+            if (key == null) {
+                Predicate restOfNullRun = cb.and(cb.isNull(value), idBeyond);
+                return descending ? restOfNullRun : cb.or(restOfNullRun, cb.isNotNull(value));
+            }
+            Predicate next = cb.or(
+                descending ? cb.lessThan(value, key) : cb.greaterThan(value, key),
+                cb.and(cb.equal(value, key), idBeyond));
+            return descending ? cb.or(next, cb.isNull(value)) : next;
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.AssetSummary;
+
+// A summary plus the value it was sorted on, which the next page's cursor needs.
+public record AssetSummaryRow(AssetSummary summary, Object sortKey) {
+}
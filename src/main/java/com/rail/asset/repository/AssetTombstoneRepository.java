@@ -0,0 +1,30 @@
+package com.rail.asset.repository;
+
+import com.rail.asset.domain.AssetTombstone;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AssetTombstoneRepository extends JpaRepository<AssetTombstone, Long> {
+
+    @Query("""
+        select t from AssetTombstone t
+        where (t.deletedAt > :after or (t.deletedAt = :after and t.assetId > :afterId))
+          and t.deletedAt < :before
+        order by t.deletedAt, t.assetId
+        """)
+    List<AssetTombstone> findDeletedAfter(
+        @Param("after") Instant after,
+        @Param("afterId") Long afterId,
+        @Param("before") Instant before,
+        Limit limit
+    );
+
+    @Modifying
+    @Query("delete from AssetTombstone t where t.deletedAt < :cutoff")
+    int deleteByDeletedAtBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,51 @@
+package com.rail.asset.repository;
+
+import java.time.LocalDate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Reads only the valuation columns, with money and rate already scaled to longs by the database.
+@Repository
+public class AssetValuationReader {
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final String CHUNK_SQL = """
+        select id, category, location_code, install_date, acquisition_cost * 100, depreciation_rate * 100
+        from assets
+        where id > ?
+        order by id
+        limit ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AssetValuationReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the last id read, or afterId when there are no more rows. Missing values arrive as NONE.
+    public long readChunk(long afterId, int limit, RowHandler handler) {
+        long[] lastId = {afterId};
+        jdbcTemplate.query(CHUNK_SQL, rs -> {
+            lastId[0] = rs.getLong(1);
+            LocalDate installDate = rs.getObject(4, LocalDate.class);
+            long costCents = rs.getLong(5);
+            if (rs.wasNull()) {
+                costCents = NONE;
+            }
+            long rateBasisPoints = rs.getLong(6);
+            if (rs.wasNull()) {
+                rateBasisPoints = NONE;
+            }
+            handler.row(rs.getString(2), rs.getString(3),
+                installDate == null ? NONE : installDate.toEpochDay(), costCents, rateBasisPoints);
+        }, afterId, limit);
+        return lastId[0];
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(String category, String locationCode, long installEpochDay, long costCents, long rateBasisPoints);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rail.asset.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.rail.asset.metrics.RequestProfile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+// Remembers successful verifications so repeat Basic requests skip BCrypt. Keys are HMACs under a
+// per-process secret, and failed attempts are never cached.
+public class CachingAuthenticationProvider implements AuthenticationProvider, MeterBinder {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String TIMER_NAME = "rail.security.authentication";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Authentication> verified;
+    private final SecretKeySpec secret;
+    private volatile MeterRegistry meterRegistry;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, Duration ttl, long maxSize) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secret = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        MeterRegistry registry = meterRegistry;
+        Timer.Sample sample = registry == null ? null : Timer.start(registry);
+        long started = System.nanoTime();
+        String result = "rejected";
+        try {
+            if (!(authentication.getCredentials() instanceof String password)) {
+                Authentication delegated = delegate.authenticate(authentication);
+                result = delegated == null ? "skipped" : "verified";
+                return delegated;
+            }
+            String cacheKey = cacheKey(authentication.getName(), password);
+            Authentication cached = verified.getIfPresent(cacheKey);
+            if (cached != null) {
+                result = "cached";
+                return reissue(cached, authentication);
+            }
+            Authentication delegated = delegate.authenticate(authentication);
+            if (delegated != null && delegated.isAuthenticated()) {
+                verified.put(cacheKey, reissue(delegated, delegated));
+            }
+            result = delegated == null ? "skipped" : "verified";
+            return delegated;
+        } finally {
+            RequestProfile.recordAuthentication(System.nanoTime() - started);
+            if (sample != null) {
+                sample.stop(Timer.builder(TIMER_NAME).tag("result", result).register(registry));
+            }
+        }
+    }
+
+    private static Authentication reissue(Authentication verifiedResult, Authentication request) {
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.authenticated(
+            verifiedResult.getPrincipal(), null, verifiedResult.getAuthorities());
+        token.setDetails(request.getDetails());
+        return token;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verified, "authentication");
+        this.meterRegistry = registry;
+    }
+
+    public CacheStats stats() {
+        return verified.stats();
+    }
+
+    public void invalidateAll() {
+        verified.invalidateAll();
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secret);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", ex);
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.rail.asset.security;
 
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -26,14 +31,20 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationManager authenticationManager)
+        throws Exception {
         http
+            .authenticationManager(authenticationManager)
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.POST, "/api/assets/**").hasAnyRole(UserRole.ADMIN.name(), UserRole.MANAGER.name())
                 .requestMatchers(HttpMethod.PUT, "/api/assets/**").hasAnyRole(UserRole.ADMIN.name(), UserRole.MANAGER.name())
                 .requestMatchers(HttpMethod.DELETE, "/api/assets/**").hasRole(UserRole.ADMIN.name())
                 .requestMatchers(HttpMethod.GET, "/api/assets/**").hasAnyRole(UserRole.ADMIN.name(), UserRole.MANAGER.name(), UserRole.VIEWER.name())
+                .requestMatchers("/api/reports/**").hasAnyRole(UserRole.ADMIN.name(), UserRole.MANAGER.name(), UserRole.VIEWER.name())
+                .requestMatchers("/api/admin/**").hasRole(UserRole.ADMIN.name())
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole(UserRole.ADMIN.name())
                 .anyRequest().authenticated()
             )
             .httpBasic(customizer -> { })
@@ -42,6 +53,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    @Bean
+    public CachingAuthenticationProvider cachingAuthenticationProvider(
+        UserDetailsService userDetailsService,
+        PasswordEncoder passwordEncoder,
+        @Value("${rail.security.auth-cache.ttl:PT60S}") Duration ttl,
+        @Value("${rail.security.auth-cache.max-size:10000}") long maxSize
+    ) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(passwordEncoder);
+        dao.setUserDetailsService(userDetailsService);
+        return new CachingAuthenticationProvider(dao, ttl, maxSize);
+    }
+
+    @Bean
+    public AuthenticationManager authenticationManager(CachingAuthenticationProvider cachingAuthenticationProvider) {
+        return new ProviderManager(cachingAuthenticationProvider);
+    }
+
     @Bean
     public UserDetailsService userDetailsService(PasswordEncoder passwordEncoder) {
         UserDetails admin = User.withUsername("admin")
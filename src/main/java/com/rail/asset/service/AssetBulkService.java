@@ -0,0 +1,16 @@
+package com.rail.asset.service;
+
+import com.rail.asset.domain.Asset;
+import java.io.Reader;
+import java.util.List;
+
+public interface AssetBulkService {
+
+    BulkImportResult importAssets(List<Asset> assets);
+
+    BulkImportResult importCsv(Reader reader);
+
+    BulkUpsertResult upsertAssets(List<Asset> assets);
+
+    BulkUpsertResult upsertCsv(Reader reader);
+}
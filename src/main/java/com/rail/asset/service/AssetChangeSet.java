@@ -0,0 +1,8 @@
+package com.rail.asset.service;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetTombstone;
+import java.util.List;
+
+public record AssetChangeSet(List<Asset> upserted, List<AssetTombstone> deleted, String nextToken, boolean hasMore) {
+}
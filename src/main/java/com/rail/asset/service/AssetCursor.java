@@ -0,0 +1,40 @@
+package com.rail.asset.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record AssetCursor(String sortKey, long lastId) {
+
+    public static final AssetCursor START = new AssetCursor(null, 0L);
+
+    private static final char SEPARATOR = '|';
+
+    public AssetCursor(long lastId) {
+        this(null, lastId);
+    }
+
+    public static AssetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                return new AssetCursor(Long.parseLong(raw));
+            }
+            return new AssetCursor(raw.substring(0, split), Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, ex);
+        }
+    }
+
+    public boolean isStart() {
+        return sortKey == null && lastId == 0L;
+    }
+
+    public String encode() {
+        String raw = sortKey == null ? Long.toString(lastId) : sortKey + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,9 @@
+package com.rail.asset.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface AssetExportService {
+
+    long export(ExportFormat format, OutputStream out) throws IOException;
+}
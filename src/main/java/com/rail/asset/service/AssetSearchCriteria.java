@@ -0,0 +1,59 @@
+package com.rail.asset.service;
+
+import com.rail.asset.service.support.AssetNormalizer;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record AssetSearchCriteria(
+    String assetCode,
+    String category,
+    String subCategory,
+    String status,
+    String location,
+    String manufacturer,
+    String modelNumber,
+    String serialNumber,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedTo,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inspectedFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inspectedTo,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo
+) {
+
+    public static final AssetSearchCriteria NONE = new AssetSearchCriteria(
+        null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+
+    public static AssetSearchCriteria byCategoryAndStatus(String category, String status) {
+        return new AssetSearchCriteria(
+            null, category, null, status, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public static AssetSearchCriteria byLocation(String location) {
+        return new AssetSearchCriteria(
+            null, null, null, null, location, null, null, null, null, null, null, null, null, null);
+    }
+
+    // Codes, status and location are stored normalized; blank parameters count as absent.
+    public AssetSearchCriteria normalized() {
+        return new AssetSearchCriteria(
+            AssetNormalizer.normalizeCode(blankToNull(assetCode)),
+            blankToNull(category),
+            blankToNull(subCategory),
+            AssetNormalizer.normalizeCode(blankToNull(status)),
+            AssetNormalizer.normalizeCode(blankToNull(location)),
+            blankToNull(manufacturer),
+            blankToNull(modelNumber),
+            blankToNull(serialNumber),
+            installedFrom,
+            installedTo,
+            inspectedFrom,
+            inspectedTo,
+            dueFrom,
+            dueTo);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
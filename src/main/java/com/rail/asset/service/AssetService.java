@@ -1,6 +1,8 @@
 package com.rail.asset.service;
 
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
 import java.util.List;
 
 public interface AssetService {
@@ -9,15 +11,49 @@ public interface AssetService {
 
     Asset update(Long id, Asset asset);
 
+    Asset update(Long id, Asset asset, Long expectedVersion);
+
     void delete(Long id);
 
     Asset findById(Long id);
 
     Asset findByAssetCode(String assetCode);
 
+    AssetVersion findVersion(Long id);
+
+    AssetVersion findVersionByAssetCode(String assetCode);
+
     List<Asset> findByCategoryAndStatus(String category, String status);
 
     List<Asset> findByLocation(String locationCode);
 
     List<Asset> findAll();
+
+    CursorPage<Asset> findPage(String cursor, Integer limit);
+
+    CursorPage<Asset> findPageByCategoryAndStatus(String category, String status, String cursor, Integer limit);
+
+    CursorPage<Asset> findPageByLocation(String locationCode, String cursor, Integer limit);
+
+    CursorPage<AssetSummary> findSummaryPage(String cursor, Integer limit);
+
+    CursorPage<AssetSummary> findSummaryPageByCategoryAndStatus(String category, String status, String cursor, Integer limit);
+
+    CursorPage<AssetSummary> findSummaryPageByLocation(String locationCode, String cursor, Integer limit);
+
+    CursorPage<Asset> findPageByLocationPrefix(String prefix, String cursor, Integer limit);
+
+    CursorPage<Asset> findPageByLocationSubtree(String locationCode, String cursor, Integer limit);
+
+    CursorPage<AssetSummary> findSummaryPageByLocationPrefix(String prefix, String cursor, Integer limit);
+
+    CursorPage<AssetSummary> findSummaryPageByLocationSubtree(String locationCode, String cursor, Integer limit);
+
+    CursorPage<Asset> search(AssetSearchCriteria criteria, AssetSort sort, String cursor, Integer limit);
+
+    CursorPage<AssetSummary> searchSummaries(AssetSearchCriteria criteria, AssetSort sort, String cursor, Integer limit);
+
+    CursorPage<Asset> findOverdue(String locationCode, String category, String cursor, Integer limit);
+
+    CursorPage<Asset> findDueWithin(int days, String locationCode, String category, String cursor, Integer limit);
 }
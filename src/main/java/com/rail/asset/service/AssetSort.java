@@ -0,0 +1,16 @@
+package com.rail.asset.service;
+
+public record AssetSort(AssetSortField field, boolean descending) {
+
+    public static final AssetSort DEFAULT = new AssetSort(AssetSortField.ID, false);
+
+    // Accepts "installDate" for ascending and "-installDate" for descending.
+    public static AssetSort fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT;
+        }
+        String trimmed = value.trim();
+        boolean descending = trimmed.startsWith("-");
+        return new AssetSort(AssetSortField.fromAttribute(descending ? trimmed.substring(1) : trimmed), descending);
+    }
+}
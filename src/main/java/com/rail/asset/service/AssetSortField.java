@@ -0,0 +1,41 @@
+package com.rail.asset.service;
+
+import com.rail.asset.domain.Asset;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Only columns with a supporting index are sortable, so every order is an index walk plus id.
+public enum AssetSortField {
+    ID("id", Asset::getId),
+    INSTALL_DATE("installDate", Asset::getInstallDate),
+    LAST_INSPECTION_DATE("lastInspectionDate", Asset::getLastInspectionDate),
+    NEXT_INSPECTION_DUE("nextInspectionDue", Asset::getNextInspectionDue),
+    UPDATED_AT("updatedAt", Asset::getUpdatedAt);
+
+    private final String attribute;
+    private final Function<Asset, Object> value;
+
+    AssetSortField(String attribute, Function<Asset, Object> value) {
+        this.attribute = attribute;
+        this.value = value;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    public Object valueOf(Asset asset) {
+        return value.apply(asset);
+    }
+
+    public static AssetSortField fromAttribute(String attribute) {
+        for (AssetSortField field : values()) {
+            if (field.attribute.equals(attribute)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort: " + attribute + "; allowed: "
+            + Arrays.stream(values()).map(AssetSortField::attribute).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,8 @@
+package com.rail.asset.service;
+
+public interface AssetSyncService {
+
+    AssetChangeSet changesSince(String token, Integer limit);
+
+    int purgeExpiredTombstones();
+}
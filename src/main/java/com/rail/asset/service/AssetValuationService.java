@@ -0,0 +1,8 @@
+package com.rail.asset.service;
+
+import java.time.LocalDate;
+
+public interface AssetValuationService {
+
+    PortfolioValuation valueAt(LocalDate asOf);
+}
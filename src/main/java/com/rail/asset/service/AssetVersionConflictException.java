@@ -0,0 +1,8 @@
+package com.rail.asset.service;
+
+public class AssetVersionConflictException extends RuntimeException {
+
+    public AssetVersionConflictException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Asset " + id + " is at version " + currentVersion + ", expected " + expectedVersion);
+    }
+}
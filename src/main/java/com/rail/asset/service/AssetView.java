@@ -0,0 +1,16 @@
+package com.rail.asset.service;
+
+import java.util.Locale;
+
+public enum AssetView {
+    FULL,
+    SUMMARY;
+
+    public static AssetView fromParameter(String value) {
+        try {
+            return AssetView.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalArgumentException("Unsupported view: " + value, ex);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.rail.asset.service;
+
+import java.util.List;
+
+public record BulkImportResult(long received, long imported, long failed, List<BulkRowError> errors) {
+
+    public BulkImportResult(long received, long imported, List<BulkRowError> errors) {
+        this(received, imported, errors.size(), errors);
+    }
+}
@@ -0,0 +1,4 @@
+package com.rail.asset.service;
+
+public record BulkRowError(long row, String assetCode, String message) {
+}
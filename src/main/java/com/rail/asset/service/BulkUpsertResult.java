@@ -0,0 +1,17 @@
+package com.rail.asset.service;
+
+import java.util.List;
+
+public record BulkUpsertResult(
+    long received,
+    long inserted,
+    long updated,
+    long unchanged,
+    long failed,
+    List<BulkRowError> errors
+) {
+
+    public BulkUpsertResult(long received, long inserted, long updated, long unchanged, List<BulkRowError> errors) {
+        this(received, inserted, updated, unchanged, errors.size(), errors);
+    }
+}
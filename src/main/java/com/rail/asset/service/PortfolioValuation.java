@@ -0,0 +1,26 @@
+package com.rail.asset.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record PortfolioValuation(
+    LocalDate asOf,
+    long assets,
+    long unvaluedAssets,
+    BigDecimal acquisitionCost,
+    BigDecimal accumulatedDepreciation,
+    BigDecimal bookValue,
+    List<ValuationGroup> byCategory,
+    List<ValuationGroup> byLocation
+) {
+
+    public record ValuationGroup(
+        String key,
+        long assets,
+        BigDecimal acquisitionCost,
+        BigDecimal accumulatedDepreciation,
+        BigDecimal bookValue
+    ) {
+    }
+}
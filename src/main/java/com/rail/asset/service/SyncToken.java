@@ -0,0 +1,34 @@
+package com.rail.asset.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+// Two independent keyset positions: one over asset changes, one over deletions.
+public record SyncToken(Instant changedAfter, long changedId, Instant deletedAfter, long deletedId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid sync token: " + token);
+            }
+            return new SyncToken(
+                Instant.parse(parts[0]),
+                Long.parseLong(parts[1]),
+                Instant.parse(parts[2]),
+                Long.parseLong(parts[3]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid sync token: " + token, ex);
+        }
+    }
+
+    public String encode() {
+        String raw = changedAfter + SEPARATOR + changedId + SEPARATOR + deletedAfter + SEPARATOR + deletedId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
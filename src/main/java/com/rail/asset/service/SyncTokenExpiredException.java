@@ -0,0 +1,8 @@
+package com.rail.asset.service;
+
+public class SyncTokenExpiredException extends RuntimeException {
+
+    public SyncTokenExpiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,36 @@
+package com.rail.asset.service.analytics;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum AnalyticsDimension {
+    CATEGORY("category"),
+    STATUS("status"),
+    LOCATION("location"),
+    MANUFACTURER("manufacturer"),
+    INSTALL_YEAR("installYear");
+
+    private final String parameter;
+
+    AnalyticsDimension(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    // Absent means a single overall group.
+    public static AnalyticsDimension fromParameter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (AnalyticsDimension dimension : values()) {
+            if (dimension.parameter.equals(value.trim())) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported groupBy: " + value + "; allowed: "
+            + Arrays.stream(values()).map(AnalyticsDimension::parameter).collect(Collectors.joining(", ")));
+    }
+}
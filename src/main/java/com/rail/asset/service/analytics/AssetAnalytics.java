@@ -0,0 +1,11 @@
+package com.rail.asset.service.analytics;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+// Totals over the filtered assets; assets without a cost count towards assets but not totalCost.
+public record AssetAnalytics(long assets, BigDecimal totalCost, String groupBy, List<Group> groups) {
+
+    public record Group(String key, long assets, BigDecimal totalCost) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.rail.asset.service.analytics;
+
+import com.rail.asset.service.support.AssetNormalizer;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record AssetAnalyticsFilter(
+    String category,
+    String status,
+    String location,
+    String manufacturer,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate installedTo
+) {
+
+    public static final AssetAnalyticsFilter NONE = new AssetAnalyticsFilter(null, null, null, null, null, null);
+
+    // Status and location are stored normalized; blank parameters count as absent.
+    public AssetAnalyticsFilter normalized() {
+        if (installedFrom != null && installedTo != null && installedFrom.isAfter(installedTo)) {
+            throw new IllegalArgumentException("installDate range starts after it ends");
+        }
+        return new AssetAnalyticsFilter(
+            blankToNull(category),
+            AssetNormalizer.normalizeCode(blankToNull(status)),
+            AssetNormalizer.normalizeCode(blankToNull(location)),
+            blankToNull(manufacturer),
+            installedFrom,
+            installedTo);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
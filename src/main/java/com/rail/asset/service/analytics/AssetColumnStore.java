@@ -0,0 +1,134 @@
+package com.rail.asset.service.analytics;
+
+import com.rail.asset.repository.AssetAnalyticsReader;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.event.AssetChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Columnar copy of the register, so filter, group-by and sum queries never touch the database.
+@Component
+public class AssetColumnStore implements SmartInitializingSingleton {
+
+    private final AssetAnalyticsReader reader;
+    private final AssetRepository assetRepository;
+    private final int loadChunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuilding = new Object();
+    private ColumnSnapshot snapshot = new ColumnSnapshot(0);
+    private List<AssetChangedEvent> replay;
+
+    public AssetColumnStore(
+        AssetAnalyticsReader reader,
+        AssetRepository assetRepository,
+        @Value("${rail.asset.analytics.load-chunk-size:10000}") int loadChunkSize,
+        MeterRegistry meterRegistry
+    ) {
+        this.reader = reader;
+        this.assetRepository = assetRepository;
+        this.loadChunkSize = loadChunkSize;
+        Gauge.builder("rail.asset.analytics.rows", this, AssetColumnStore::size).register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            apply(snapshot, event);
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public AssetAnalytics aggregate(AssetAnalyticsFilter filter, AnalyticsDimension groupBy) {
+        AssetAnalyticsFilter normalized = filter.normalized();
+        lock.readLock().lock();
+        try {
+            return snapshot.aggregate(normalized, groupBy);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return snapshot.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A long load nearly always overlaps a write, so changes committed meanwhile are replayed onto the
+    // fresh snapshot. Replaying a change the load already saw just writes the same values again.
+    @Scheduled(
+        initialDelayString = "${rail.asset.analytics.rebuild-interval:PT1H}",
+        fixedDelayString = "${rail.asset.analytics.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (rebuilding) {
+            List<AssetChangedEvent> changes = new ArrayList<>();
+            setReplay(changes);
+            try {
+                ColumnSnapshot fresh = load();
+                lock.writeLock().lock();
+                try {
+                    changes.forEach(event -> apply(fresh, event));
+                    snapshot = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                setReplay(null);
+            }
+        }
+    }
+
+    private ColumnSnapshot load() {
+        long expected = assetRepository.count();
+        ColumnSnapshot fresh = new ColumnSnapshot((int) Math.min(expected + expected / 8, Integer.MAX_VALUE / Long.BYTES));
+        AssetAnalyticsReader.RowHandler handler = (id, category, status, location, manufacturer, day, cents) ->
+            fresh.load(id, category, status, location, manufacturer,
+                day == AssetAnalyticsReader.NONE ? ColumnSnapshot.NONE : Math.toIntExact(day),
+                cents == AssetAnalyticsReader.NONE ? ColumnSnapshot.NO_COST : cents);
+        long afterId = 0;
+        long lastId;
+        while ((lastId = reader.readChunk(afterId, loadChunkSize, handler)) != afterId) {
+            afterId = lastId;
+        }
+        return fresh;
+    }
+
+    private void setReplay(List<AssetChangedEvent> changes) {
+        lock.writeLock().lock();
+        try {
+            replay = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void apply(ColumnSnapshot target, AssetChangedEvent event) {
+        if (event.current() != null) {
+            target.upsert(event.current());
+        } else {
+            target.delete(event.assetId());
+        }
+    }
+}
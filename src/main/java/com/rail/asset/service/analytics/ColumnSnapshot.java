@@ -0,0 +1,321 @@
+package com.rail.asset.service.analytics;
+
+import com.rail.asset.domain.Asset;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Off-heap columns: text dictionary-encoded to ints, install dates as epoch days, costs as cents.
+// Rows created after the build are found through a map. Not thread-safe; AssetColumnStore guards it.
+final class ColumnSnapshot {
+
+    static final int NONE = Integer.MIN_VALUE;
+    static final long NO_COST = Long.MIN_VALUE;
+    private static final int ANY = -1;
+    private static final int MIN_CAPACITY = 1024;
+
+    private final Dictionary categories = new Dictionary();
+    private final Dictionary statuses = new Dictionary();
+    private final Dictionary locations = new Dictionary();
+    private final Dictionary manufacturers = new Dictionary();
+    private final LongColumn ids;
+    private final IntColumn category;
+    private final IntColumn status;
+    private final IntColumn location;
+    private final IntColumn manufacturer;
+    private final IntColumn installDay;
+    private final IntColumn installYear;
+    private final LongColumn cost;
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> appended = new HashMap<>();
+    private int rows;
+    private int sortedRows;
+    private int live;
+    private int minYear = Integer.MAX_VALUE;
+    private int maxYear = Integer.MIN_VALUE;
+
+    ColumnSnapshot(int expectedRows) {
+        int capacity = Math.max(expectedRows, MIN_CAPACITY);
+        ids = new LongColumn(capacity);
+        category = new IntColumn(capacity);
+        status = new IntColumn(capacity);
+        location = new IntColumn(capacity);
+        manufacturer = new IntColumn(capacity);
+        installDay = new IntColumn(capacity);
+        installYear = new IntColumn(capacity);
+        cost = new LongColumn(capacity);
+    }
+
+    int live() {
+        return live;
+    }
+
+    // Bulk load only: ids must arrive in ascending order before any upsert.
+    void load(long id, String category, String status, String location, String manufacturer, int day, long cents) {
+        int row = rows++;
+        ids.set(row, id);
+        write(row, category, status, location, manufacturer, day, cents);
+        sortedRows = rows;
+        live++;
+    }
+
+    void upsert(Asset asset) {
+        long id = asset.getId();
+        int row = rowOf(id);
+        if (row < 0) {
+            row = rows++;
+            ids.set(row, id);
+            appended.put(id, row);
+            live++;
+        } else if (deleted.get(row)) {
+            deleted.clear(row);
+            live++;
+        }
+        LocalDate installDate = asset.getInstallDate();
+        write(row, asset.getCategory(), asset.getStatus(), asset.getLocationCode(), asset.getManufacturer(),
+            installDate == null ? NONE : Math.toIntExact(installDate.toEpochDay()), cents(asset.getAcquisitionCost()));
+    }
+
+    void delete(long id) {
+        int row = rowOf(id);
+        if (row >= 0 && !deleted.get(row)) {
+            deleted.set(row);
+            live--;
+        }
+    }
+
+    AssetAnalytics aggregate(AssetAnalyticsFilter filter, AnalyticsDimension groupBy) {
+        Integer categoryMatch = filterCode(categories, filter.category());
+        Integer statusMatch = filterCode(statuses, filter.status());
+        Integer locationMatch = filterCode(locations, filter.location());
+        Integer manufacturerMatch = filterCode(manufacturers, filter.manufacturer());
+        if (categoryMatch == null || statusMatch == null || locationMatch == null || manufacturerMatch == null) {
+            return result(groupBy, -1, new long[1], new long[1]);
+        }
+        int categoryCode = categoryMatch;
+        int statusCode = statusMatch;
+        int locationCode = locationMatch;
+        int manufacturerCode = manufacturerMatch;
+        boolean byDate = filter.installedFrom() != null || filter.installedTo() != null;
+        int fromDay = filter.installedFrom() == null ? NONE + 1 : Math.toIntExact(filter.installedFrom().toEpochDay());
+        int toDay = filter.installedTo() == null ? Integer.MAX_VALUE : Math.toIntExact(filter.installedTo().toEpochDay());
+
+        // Slot 0 collects rows without a value; the rest map a dictionary code or year onto value - base.
+        IntColumn groupColumn = groupBy == null ? null : column(groupBy);
+        int base = groupBy == AnalyticsDimension.INSTALL_YEAR ? minYear - 1 : -1;
+        int slots = groupBy == null ? 1
+            : groupBy == AnalyticsDimension.INSTALL_YEAR ? (minYear > maxYear ? 1 : maxYear - minYear + 2)
+            : dictionary(groupBy).size() + 1;
+        long[] counts = new long[slots];
+        long[] cents = new long[slots];
+
+        for (int row = 0; row < rows; row++) {
+            if (deleted.get(row)
+                || categoryCode != ANY && category.get(row) != categoryCode
+                || statusCode != ANY && status.get(row) != statusCode
+                || locationCode != ANY && location.get(row) != locationCode
+                || manufacturerCode != ANY && manufacturer.get(row) != manufacturerCode) {
+                continue;
+            }
+            if (byDate) {
+                int day = installDay.get(row);
+                if (day == NONE || day < fromDay || day > toDay) {
+                    continue;
+                }
+            }
+            int slot = 0;
+            if (groupColumn != null) {
+                int value = groupColumn.get(row);
+                slot = value == NONE ? 0 : value - base;
+            }
+            counts[slot]++;
+            long rowCost = cost.get(row);
+            if (rowCost != NO_COST) {
+                cents[slot] += rowCost;
+            }
+        }
+        return result(groupBy, base, counts, cents);
+    }
+
+    private AssetAnalytics result(AnalyticsDimension groupBy, int base, long[] counts, long[] cents) {
+        long assets = 0;
+        long totalCents = 0;
+        List<AssetAnalytics.Group> groups = new ArrayList<>();
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] == 0) {
+                continue;
+            }
+            assets += counts[slot];
+            totalCents += cents[slot];
+            if (groupBy != null) {
+                String key = slot == 0 ? null
+                    : groupBy == AnalyticsDimension.INSTALL_YEAR ? Integer.toString(slot + base)
+                    : dictionary(groupBy).value(slot + base);
+                groups.add(new AssetAnalytics.Group(key, counts[slot], BigDecimal.valueOf(cents[slot], 2)));
+            }
+        }
+        if (groupBy != AnalyticsDimension.INSTALL_YEAR) {
+            groups.sort(Comparator.comparing(AssetAnalytics.Group::key, Comparator.nullsLast(Comparator.naturalOrder())));
+        } else if (!groups.isEmpty() && groups.get(0).key() == null) {
+            groups.add(groups.remove(0));
+        }
+        return new AssetAnalytics(assets, BigDecimal.valueOf(totalCents, 2),
+            groupBy == null ? null : groupBy.parameter(), List.copyOf(groups));
+    }
+
+    private void write(int row, String category, String status, String location, String manufacturer, int day, long cents) {
+        this.category.set(row, categories.encode(category));
+        this.status.set(row, statuses.encode(status));
+        this.location.set(row, locations.encode(location));
+        this.manufacturer.set(row, manufacturers.encode(manufacturer));
+        installDay.set(row, day);
+        int year = day == NONE ? NONE : LocalDate.ofEpochDay(day).getYear();
+        installYear.set(row, year);
+        if (year != NONE) {
+            minYear = Math.min(minYear, year);
+            maxYear = Math.max(maxYear, year);
+        }
+        cost.set(row, cents);
+    }
+
+    private int rowOf(long id) {
+        Integer row = appended.get(id);
+        if (row != null) {
+            return row;
+        }
+        int low = 0;
+        int high = sortedRows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids.get(mid);
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // ANY when the filter is absent, null when no row can match.
+    private static Integer filterCode(Dictionary dictionary, String value) {
+        return value == null ? Integer.valueOf(ANY) : dictionary.find(value);
+    }
+
+    private IntColumn column(AnalyticsDimension dimension) {
+        return switch (dimension) {
+            case CATEGORY -> category;
+            case STATUS -> status;
+            case LOCATION -> location;
+            case MANUFACTURER -> manufacturer;
+            case INSTALL_YEAR -> installYear;
+        };
+    }
+
+    private Dictionary dictionary(AnalyticsDimension dimension) {
+        return switch (dimension) {
+            case CATEGORY -> categories;
+            case STATUS -> statuses;
+            case LOCATION -> locations;
+            case MANUFACTURER -> manufacturers;
+            case INSTALL_YEAR -> throw new IllegalArgumentException("installYear is not dictionary-encoded");
+        };
+    }
+
+    private static long cents(BigDecimal amount) {
+        return amount == null ? NO_COST : amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(key);
+                return values.size() - 1;
+            });
+        }
+
+        Integer find(String value) {
+            return codes.get(value);
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    private static final class IntColumn {
+        private IntBuffer values;
+
+        IntColumn(int capacity) {
+            values = allocate(capacity);
+        }
+
+        int get(int row) {
+            return values.get(row);
+        }
+
+        void set(int row, int value) {
+            if (row >= values.capacity()) {
+                IntBuffer grown = allocate(Math.max(row + 1, values.capacity() * 2));
+                grown.put(0, values, 0, values.capacity());
+                values = grown;
+            }
+            values.put(row, value);
+        }
+
+        private static IntBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(Math.multiplyExact(capacity, Integer.BYTES))
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        }
+    }
+
+    private static final class LongColumn {
+        private LongBuffer values;
+
+        LongColumn(int capacity) {
+            values = allocate(capacity);
+        }
+
+        long get(int row) {
+            return values.get(row);
+        }
+
+        void set(int row, long value) {
+            if (row >= values.capacity()) {
+                LongBuffer grown = allocate(Math.max(row + 1, values.capacity() * 2));
+                grown.put(0, values, 0, values.capacity());
+                values = grown;
+            }
+            values.put(row, value);
+        }
+
+        private static LongBuffer allocate(int capacity) {
+            return ByteBuffer.allocateDirect(Math.multiplyExact(capacity, Long.BYTES))
+                .order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.rail.asset.service.cache;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.event.AssetChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class AssetCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public AssetCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        Cache byId = cacheManager.getCache(AssetCacheNames.BY_ID);
+        if (byId != null && event.assetId() != null) {
+            byId.evict(event.assetId());
+        }
+        Cache byCode = cacheManager.getCache(AssetCacheNames.BY_CODE);
+        if (byCode != null) {
+            evictCode(byCode, event.previous());
+            evictCode(byCode, event.current());
+        }
+    }
+
+    private static void evictCode(Cache cache, Asset asset) {
+        if (asset != null && asset.getAssetCode() != null) {
+            cache.evict(asset.getAssetCode());
+        }
+    }
+}
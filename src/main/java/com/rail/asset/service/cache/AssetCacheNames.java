@@ -0,0 +1,10 @@
+package com.rail.asset.service.cache;
+
+public final class AssetCacheNames {
+
+    public static final String BY_ID = "assetsById";
+    public static final String BY_CODE = "assetsByCode";
+
+    private AssetCacheNames() {
+    }
+}
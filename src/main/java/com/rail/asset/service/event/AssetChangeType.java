@@ -0,0 +1,7 @@
+package com.rail.asset.service.event;
+
+public enum AssetChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
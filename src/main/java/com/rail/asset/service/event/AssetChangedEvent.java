@@ -0,0 +1,48 @@
+package com.rail.asset.service.event;
+
+import com.rail.asset.domain.Asset;
+
+// Published inside the writing transaction; mirror it with @TransactionalEventListener to see only
+// committed changes. previous and current are detached copies and safe to retain.
+public record AssetChangedEvent(AssetChangeType type, Long assetId, Asset previous, Asset current) {
+
+    public static AssetChangedEvent created(Asset asset) {
+        return new AssetChangedEvent(AssetChangeType.CREATED, asset.getId(), null, copyOf(asset));
+    }
+
+    public static AssetChangedEvent updated(Asset previous, Asset current) {
+        return new AssetChangedEvent(AssetChangeType.UPDATED, current.getId(), previous, copyOf(current));
+    }
+
+    public static AssetChangedEvent deleted(Asset asset) {
+        return new AssetChangedEvent(AssetChangeType.DELETED, asset.getId(), copyOf(asset), null);
+    }
+
+    public static Asset copyOf(Asset source) {
+        Asset copy = new Asset(
+            source.getId(),
+            source.getAssetCode(),
+            source.getName(),
+            source.getCategory(),
+            source.getSubCategory(),
+            source.getManufacturer(),
+            source.getModelNumber(),
+            source.getSerialNumber(),
+            source.getInstallDate(),
+            source.getStatus(),
+            source.getLocationCode(),
+            source.getMaintenanceCycleDays(),
+            source.getLastInspectionDate(),
+            source.getDepreciationRate(),
+            source.getAcquisitionCost(),
+            source.getNotes()
+        );
+        copy.setCreatedBy(source.getCreatedBy());
+        copy.setLastModifiedBy(source.getLastModifiedBy());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setVersion(source.getVersion());
+        copy.refreshNextInspectionDue();
+        return copy;
+    }
+}
@@ -0,0 +1,160 @@
+package com.rail.asset.service.facet;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetFacetCount;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.event.AssetChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Counts move with committed changes; a periodic GROUP BY repairs drift from out-of-band writes.
+@Component
+public class AssetFacetCounter implements SmartInitializingSingleton {
+
+    private static final int STARTUP_ATTEMPTS = 5;
+    private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final AssetRepository assetRepository;
+    private final Counter drift;
+    private final Map<FacetKey, Long> counts = new HashMap<>();
+    private long changes;
+    private volatile AssetFacets snapshot;
+
+    public AssetFacetCounter(AssetRepository assetRepository, MeterRegistry meterRegistry) {
+        this.assetRepository = assetRepository;
+        this.drift = Counter.builder("rail.asset.facets.drift").register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int attempt = 0; attempt < STARTUP_ATTEMPTS; attempt++) {
+            if (reconcile()) {
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        FacetKey before = FacetKey.of(event.previous());
+        FacetKey after = FacetKey.of(event.current());
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        synchronized (this) {
+            adjust(before, -1);
+            adjust(after, 1);
+            changes++;
+            snapshot = null;
+        }
+    }
+
+    public AssetFacets facets() {
+        AssetFacets current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = build();
+            }
+            return snapshot;
+        }
+    }
+
+    // If a change lands while the query runs, the pass is abandoned and left to the next run.
+    @Scheduled(
+        initialDelayString = "${rail.asset.facets.reconcile-interval:PT5M}",
+        fixedDelayString = "${rail.asset.facets.reconcile-interval:PT5M}")
+    public boolean reconcile() {
+        long seen;
+        synchronized (this) {
+            seen = changes;
+        }
+        List<AssetFacetCount> rows = assetRepository.countByFacets();
+        synchronized (this) {
+            if (changes != seen) {
+                return false;
+            }
+            Map<FacetKey, Long> fresh = new HashMap<>();
+            for (AssetFacetCount row : rows) {
+                fresh.put(new FacetKey(row.category(), row.status(), row.locationCode()), row.count());
+            }
+            long difference = 0;
+            for (Map.Entry<FacetKey, Long> entry : fresh.entrySet()) {
+                difference += Math.abs(entry.getValue() - counts.getOrDefault(entry.getKey(), 0L));
+            }
+            for (Map.Entry<FacetKey, Long> entry : counts.entrySet()) {
+                if (!fresh.containsKey(entry.getKey())) {
+                    difference += Math.abs(entry.getValue());
+                }
+            }
+            if (difference > 0) {
+                drift.increment(difference);
+                counts.clear();
+                counts.putAll(fresh);
+                snapshot = null;
+            }
+            return true;
+        }
+    }
+
+    private void adjust(FacetKey key, long delta) {
+        if (key != null) {
+            counts.merge(key, delta, (left, right) -> left + right == 0 ? null : left + right);
+        }
+    }
+
+    private AssetFacets build() {
+        List<AssetFacetCount> cells = new ArrayList<>(counts.size());
+        long total = 0;
+        for (Map.Entry<FacetKey, Long> entry : counts.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            FacetKey key = entry.getKey();
+            cells.add(new AssetFacetCount(key.category(), key.status(), key.locationCode(), entry.getValue()));
+            total += entry.getValue();
+        }
+        cells.sort(Comparator.comparing(AssetFacetCount::category, NULLS_LAST)
+            .thenComparing(AssetFacetCount::status, NULLS_LAST)
+            .thenComparing(AssetFacetCount::locationCode, NULLS_LAST));
+        return new AssetFacets(total,
+            totals(cells, AssetFacetCount::category),
+            totals(cells, AssetFacetCount::status),
+            totals(cells, AssetFacetCount::locationCode),
+            List.copyOf(cells));
+    }
+
+    private static List<AssetFacets.FacetValue> totals(
+        List<AssetFacetCount> cells,
+        Function<AssetFacetCount, String> dimension
+    ) {
+        Map<String, Long> sums = new TreeMap<>(NULLS_LAST);
+        for (AssetFacetCount cell : cells) {
+            sums.merge(dimension.apply(cell), cell.count(), Long::sum);
+        }
+        List<AssetFacets.FacetValue> values = new ArrayList<>(sums.size());
+        sums.forEach((value, count) -> values.add(new AssetFacets.FacetValue(value, count)));
+        return List.copyOf(values);
+    }
+
+    private record FacetKey(String category, String status, String locationCode) {
+
+        static FacetKey of(Asset asset) {
+            return asset == null ? null : new FacetKey(asset.getCategory(), asset.getStatus(), asset.getLocationCode());
+        }
+    }
+}
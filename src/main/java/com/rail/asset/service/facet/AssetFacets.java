@@ -0,0 +1,17 @@
+package com.rail.asset.service.facet;
+
+import com.rail.asset.domain.AssetFacetCount;
+import java.util.List;
+
+// Totals per dimension plus every populated category x status x location cell.
+public record AssetFacets(
+    long total,
+    List<FacetValue> categories,
+    List<FacetValue> statuses,
+    List<FacetValue> locations,
+    List<AssetFacetCount> cells
+) {
+
+    public record FacetValue(String value, long count) {
+    }
+}
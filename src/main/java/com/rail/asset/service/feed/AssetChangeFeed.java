@@ -0,0 +1,279 @@
+package com.rail.asset.service.feed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rail.asset.service.event.AssetChangeType;
+import com.rail.asset.service.event.AssetChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Each subscriber has a bounded buffer drained by a small shared pool, so idle connections hold no thread
+// and a slow client only loses its own oldest events.
+@Component
+public class AssetChangeFeed {
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor dispatcher;
+    private final Counter dropped;
+    private final Counter evicted;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int dispatchThreads;
+    private final long sendTimeoutNanos;
+    private int stalledSends;
+
+    public AssetChangeFeed(
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${rail.asset.feed.buffer-size:256}") int bufferSize,
+        @Value("${rail.asset.feed.max-subscribers:5000}") int maxSubscribers,
+        @Value("${rail.asset.feed.dispatch-threads:4}") int dispatchThreads,
+        @Value("${rail.asset.feed.send-timeout:PT5S}") Duration sendTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.dispatchThreads = dispatchThreads;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("asset-feed-");
+        threadFactory.setDaemon(true);
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), threadFactory);
+        this.dropped = Counter.builder("rail.asset.feed.dropped").register(meterRegistry);
+        this.evicted = Counter.builder("rail.asset.feed.evicted").register(meterRegistry);
+        Gauge.builder("rail.asset.feed.subscribers", subscriptions, Set::size).register(meterRegistry);
+    }
+
+    public Subscription subscribe(AssetFeedFilter filter, AssetFeedSink sink) {
+        if (subscriptions.size() >= maxSubscribers) {
+            throw new IllegalStateException("Asset feed is at its limit of " + maxSubscribers + " subscribers");
+        }
+        Subscription subscription = new Subscription(filter, sink);
+        subscriptions.add(subscription);
+        subscription.offer(FeedMessage.comment("connected"));
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+        subscription.closed = true;
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        AssetFeedEvent payload = new AssetFeedEvent(event.type(), event.assetId(),
+            event.type() == AssetChangeType.DELETED ? event.previous() : event.current());
+        FeedMessage message;
+        try {
+            message = new FeedMessage(Long.toString(sequence.incrementAndGet()),
+                event.type().name().toLowerCase(Locale.ROOT), objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize asset change", ex);
+        }
+        for (Subscription subscription : subscriptions) {
+            // Updates reach subscribers on either side so an asset leaving a filter is visible too.
+            if (subscription.filter.matches(event.previous()) || subscription.filter.matches(event.current())) {
+                subscription.offer(message);
+            }
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${rail.asset.feed.heartbeat:PT15S}",
+        fixedDelayString = "${rail.asset.feed.heartbeat:PT15S}")
+    public void heartbeat() {
+        FeedMessage keepAlive = FeedMessage.comment("keep-alive");
+        for (Subscription subscription : subscriptions) {
+            subscription.offerIfRoom(keepAlive);
+        }
+    }
+
+    // A blocked write cannot be interrupted, so the pool gets a replacement thread until it returns.
+    @Scheduled(
+        initialDelayString = "${rail.asset.feed.send-timeout:PT5S}",
+        fixedDelayString = "${rail.asset.feed.send-timeout:PT5S}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscription subscription : subscriptions) {
+            if (subscription.markStalled(now)) {
+                unsubscribe(subscription);
+                evicted.increment();
+                resizeDispatcher(1);
+            }
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        stalledSends += delta;
+        int size = dispatchThreads + stalledSends;
+        if (delta > 0) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Subscription subscription : subscriptions) {
+            unsubscribe(subscription);
+            subscription.sink.close();
+        }
+    }
+
+    private void close(Subscription subscription) {
+        unsubscribe(subscription);
+        subscription.sink.close();
+    }
+
+    record FeedMessage(String id, String name, String data) {
+
+        static FeedMessage comment(String text) {
+            return new FeedMessage(null, null, text);
+        }
+
+        boolean isComment() {
+            return name == null;
+        }
+    }
+
+    public final class Subscription {
+
+        private final AssetFeedFilter filter;
+        private final AssetFeedSink sink;
+        private final Deque<FeedMessage> buffer = new ArrayDeque<>();
+        private long droppedSinceDrain;
+        private boolean draining;
+        private long sendStarted;
+        private boolean stalled;
+        private volatile boolean closed;
+
+        private Subscription(AssetFeedFilter filter, AssetFeedSink sink) {
+            this.filter = filter;
+            this.sink = sink;
+        }
+
+        private void offer(FeedMessage message) {
+            boolean schedule;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();
+                    droppedSinceDrain++;
+                    dropped.increment();
+                }
+                buffer.addLast(message);
+                schedule = !draining;
+                draining = true;
+            }
+            if (schedule) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void offerIfRoom(FeedMessage message) {
+            synchronized (this) {
+                if (buffer.size() >= bufferSize) {
+                    return;
+                }
+            }
+            offer(message);
+        }
+
+        private void drain() {
+            // One buffer's worth per pass, then back of the queue, so a busy subscriber shares the pool.
+            for (int sent = 0; sent < bufferSize; sent++) {
+                FeedMessage next;
+                long lost;
+                synchronized (this) {
+                    next = buffer.pollFirst();
+                    lost = droppedSinceDrain;
+                    droppedSinceDrain = 0;
+                    if (closed || (next == null && lost == 0)) {
+                        draining = false;
+                        return;
+                    }
+                    sendStarted = System.nanoTime();
+                }
+                boolean failed = false;
+                try {
+                    if (lost > 0) {
+                        sink.send(null, "overflow", "{\"dropped\":" + lost + "}");
+                    }
+                    if (next != null) {
+                        write(next);
+                    }
+                } catch (IOException | RuntimeException ex) {
+                    failed = true;
+                }
+                boolean wasStalled;
+                synchronized (this) {
+                    sendStarted = 0;
+                    wasStalled = stalled;
+                    stalled = false;
+                }
+                if (wasStalled) {
+                    resizeDispatcher(-1);
+                }
+                if (failed || wasStalled) {
+                    // Disconnected, completed or evicted client; release it instead of retrying.
+                    close(this);
+                    synchronized (this) {
+                        draining = false;
+                        buffer.clear();
+                    }
+                    return;
+                }
+            }
+            dispatcher.execute(this::drain);
+        }
+
+        private synchronized boolean markStalled(long now) {
+            if (sendStarted == 0 || stalled || now - sendStarted < sendTimeoutNanos) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+
+        private void write(FeedMessage message) throws IOException {
+            if (message.isComment()) {
+                sink.comment(message.data());
+            } else {
+                sink.send(message.id(), message.name(), message.data());
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.rail.asset.service.feed;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.event.AssetChangeType;
+
+// Wire payload: the asset as it is now, or as it was for deletions.
+public record AssetFeedEvent(AssetChangeType type, Long assetId, Asset asset) {
+}
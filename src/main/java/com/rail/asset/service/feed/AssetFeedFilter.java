@@ -0,0 +1,28 @@
+package com.rail.asset.service.feed;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.support.AssetNormalizer;
+
+public record AssetFeedFilter(String category, String status, String locationCode) {
+
+    public static final AssetFeedFilter ALL = new AssetFeedFilter(null, null, null);
+
+    // Status and location are stored normalized, so normalize the filter the same way.
+    public static AssetFeedFilter of(String category, String status, String locationCode) {
+        return new AssetFeedFilter(
+            blankToNull(category),
+            AssetNormalizer.normalizeCode(blankToNull(status)),
+            AssetNormalizer.normalizeCode(blankToNull(locationCode)));
+    }
+
+    public boolean matches(Asset asset) {
+        return asset != null
+            && (category == null || category.equals(asset.getCategory()))
+            && (status == null || status.equals(asset.getStatus()))
+            && (locationCode == null || locationCode.equals(asset.getLocationCode()));
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
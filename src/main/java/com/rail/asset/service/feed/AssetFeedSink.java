@@ -0,0 +1,13 @@
+package com.rail.asset.service.feed;
+
+import java.io.IOException;
+
+// Transport for one subscriber; the SSE implementation lives in the api layer.
+public interface AssetFeedSink {
+
+    void send(String id, String name, String data) throws IOException;
+
+    void comment(String text) throws IOException;
+
+    void close();
+}
@@ -0,0 +1,292 @@
+package com.rail.asset.service.impl;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetJdbcWriter;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetBulkService;
+import com.rail.asset.service.BulkImportResult;
+import com.rail.asset.service.BulkRowError;
+import com.rail.asset.service.BulkUpsertResult;
+import com.rail.asset.service.event.AssetChangedEvent;
+import com.rail.asset.service.support.AssetCsv;
+import com.rail.asset.service.support.AssetNormalizer;
+import java.io.BufferedReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class AssetBulkServiceImpl implements AssetBulkService {
+
+    private final AssetRepository assetRepository;
+    private final AssetJdbcWriter assetJdbcWriter;
+    private final AuditorAware<String> auditorProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public AssetBulkServiceImpl(
+        AssetRepository assetRepository,
+        AssetJdbcWriter assetJdbcWriter,
+        AuditorAware<String> auditorProvider,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${rail.asset.bulk.chunk-size:1000}") int chunkSize
+    ) {
+        this.assetRepository = assetRepository;
+        this.assetJdbcWriter = assetJdbcWriter;
+        this.auditorProvider = auditorProvider;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkImportResult importAssets(List<Asset> assets) {
+        Tally tally = process(numbered(assets), this::insertChunk);
+        return new BulkImportResult(tally.received, tally.inserted, tally.errors);
+    }
+
+    @Override
+    public BulkImportResult importCsv(Reader reader) {
+        Tally tally = process(AssetCsv.read(new BufferedReader(reader)), this::insertChunk);
+        return new BulkImportResult(tally.received, tally.inserted, tally.errors);
+    }
+
+    @Override
+    public BulkUpsertResult upsertAssets(List<Asset> assets) {
+        Tally tally = process(numbered(assets), this::upsertChunk);
+        return new BulkUpsertResult(tally.received, tally.inserted, tally.updated, tally.unchanged, tally.errors);
+    }
+
+    @Override
+    public BulkUpsertResult upsertCsv(Reader reader) {
+        Tally tally = process(AssetCsv.read(new BufferedReader(reader)), this::upsertChunk);
+        return new BulkUpsertResult(tally.received, tally.inserted, tally.updated, tally.unchanged, tally.errors);
+    }
+
+    private static Iterator<AssetCsv.ParsedRow> numbered(List<Asset> assets) {
+        List<AssetCsv.ParsedRow> rows = new ArrayList<>(assets.size());
+        for (int i = 0; i < assets.size(); i++) {
+            rows.add(new AssetCsv.ParsedRow(i + 1L, assets.get(i), null));
+        }
+        return rows.iterator();
+    }
+
+    private Tally process(Iterator<AssetCsv.ParsedRow> rows, ChunkWriter writer) {
+        String auditor = auditorProvider.getCurrentAuditor().orElse("system");
+        Tally tally = new Tally();
+        Set<String> seenCodes = new HashSet<>();
+        List<AssetCsv.ParsedRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            AssetCsv.ParsedRow row = rows.next();
+            tally.received++;
+            String error = row.error() != null ? row.error() : validate(row.asset());
+            if (error != null) {
+                tally.reject(row, error);
+                continue;
+            }
+            AssetNormalizer.normalize(row.asset());
+            if (!seenCodes.add(row.asset().getAssetCode())) {
+                tally.reject(row, "Duplicate asset code in upload");
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writer.write(chunk, auditor, tally);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writer.write(chunk, auditor, tally);
+        }
+        return tally;
+    }
+
+    private void insertChunk(List<AssetCsv.ParsedRow> chunk, String auditor, Tally tally) {
+        Set<String> codes = new HashSet<>();
+        chunk.forEach(row -> codes.add(row.asset().getAssetCode()));
+        Set<String> existing = assetRepository.findExistingAssetCodes(codes);
+
+        List<AssetCsv.ParsedRow> fresh = new ArrayList<>(chunk.size());
+        for (AssetCsv.ParsedRow row : chunk) {
+            if (existing.contains(row.asset().getAssetCode())) {
+                tally.reject(row, "Asset code already exists");
+            } else {
+                fresh.add(row);
+            }
+        }
+        tally.inserted += writeAll(fresh, auditor, tally, assetJdbcWriter::insertBatch,
+            written -> written.forEach(row -> eventPublisher.publishEvent(AssetChangedEvent.created(row.asset())))).size();
+    }
+
+    private void upsertChunk(List<AssetCsv.ParsedRow> chunk, String auditor, Tally tally) {
+        Map<String, Asset> existing = new HashMap<>();
+        List<String> codes = chunk.stream().map(row -> row.asset().getAssetCode()).toList();
+        assetRepository.findByAssetCodeIn(codes).forEach(asset -> existing.put(asset.getAssetCode(), asset));
+
+        List<AssetCsv.ParsedRow> inserts = new ArrayList<>();
+        List<AssetCsv.ParsedRow> updates = new ArrayList<>();
+        for (AssetCsv.ParsedRow row : chunk) {
+            Asset current = existing.get(row.asset().getAssetCode());
+            if (current == null) {
+                inserts.add(row);
+            } else if (sameContent(current, row.asset())) {
+                tally.unchanged++;
+            } else {
+                updates.add(row);
+            }
+        }
+        List<AssetCsv.ParsedRow> changed = new ArrayList<>(inserts);
+        changed.addAll(updates);
+        Set<AssetCsv.ParsedRow> written = new HashSet<>(writeAll(changed, auditor, tally, assetJdbcWriter::upsertBatch,
+            rows -> publishUpserts(rows, existing)));
+        tally.inserted += inserts.stream().filter(written::contains).count();
+        tally.updated += updates.stream().filter(written::contains).count();
+    }
+
+    private void publishUpserts(List<AssetCsv.ParsedRow> rows, Map<String, Asset> existing) {
+        List<String> insertedCodes = new ArrayList<>();
+        for (AssetCsv.ParsedRow row : rows) {
+            Asset asset = row.asset();
+            Asset previous = existing.get(asset.getAssetCode());
+            if (previous == null) {
+                insertedCodes.add(asset.getAssetCode());
+                continue;
+            }
+            asset.setId(previous.getId());
+            asset.setCreatedBy(previous.getCreatedBy());
+            asset.setCreatedAt(previous.getCreatedAt());
+            asset.setVersion(previous.getVersion() + 1);
+            eventPublisher.publishEvent(AssetChangedEvent.updated(previous, asset));
+        }
+        if (!insertedCodes.isEmpty()) {
+            // MERGE does not hand back generated keys, so read the fresh rows once per chunk.
+            assetRepository.findByAssetCodeIn(insertedCodes)
+                .forEach(asset -> eventPublisher.publishEvent(AssetChangedEvent.created(asset)));
+        }
+    }
+
+    private List<AssetCsv.ParsedRow> writeAll(
+        List<AssetCsv.ParsedRow> rows,
+        String auditor,
+        Tally tally,
+        BatchWrite batchWrite,
+        Consumer<List<AssetCsv.ParsedRow>> onWritten
+    ) {
+        if (rows.isEmpty()) {
+            return rows;
+        }
+        List<Asset> assets = rows.stream().map(AssetCsv.ParsedRow::asset).toList();
+        Instant now = Instant.now();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batchWrite.write(assets, auditor, now);
+                onWritten.accept(rows);
+            });
+            return rows;
+        } catch (DataIntegrityViolationException ex) {
+            // A concurrent writer or an oversized column spoiled the batch; retry row by row to isolate it.
+            List<AssetCsv.ParsedRow> written = new ArrayList<>(rows.size());
+            for (AssetCsv.ParsedRow row : rows) {
+                row.asset().setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        batchWrite.write(List.of(row.asset()), auditor, now);
+                        onWritten.accept(List.of(row));
+                    });
+                    written.add(row);
+                } catch (DataIntegrityViolationException rowEx) {
+                    tally.reject(row, "Rejected by database: " + rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+            return written;
+        }
+    }
+
+    private static boolean sameContent(Asset current, Asset incoming) {
+        return Objects.equals(current.getName(), incoming.getName())
+            && Objects.equals(current.getCategory(), incoming.getCategory())
+            && Objects.equals(current.getSubCategory(), incoming.getSubCategory())
+            && Objects.equals(current.getManufacturer(), incoming.getManufacturer())
+            && Objects.equals(current.getModelNumber(), incoming.getModelNumber())
+            && Objects.equals(current.getSerialNumber(), incoming.getSerialNumber())
+            && Objects.equals(current.getInstallDate(), incoming.getInstallDate())
+            && Objects.equals(current.getStatus(), incoming.getStatus())
+            && Objects.equals(current.getLocationCode(), incoming.getLocationCode())
+            && Objects.equals(current.getMaintenanceCycleDays(), incoming.getMaintenanceCycleDays())
+            && Objects.equals(current.getLastInspectionDate(), incoming.getLastInspectionDate())
+            && sameAmount(current.getDepreciationRate(), incoming.getDepreciationRate())
+            && sameAmount(current.getAcquisitionCost(), incoming.getAcquisitionCost())
+            && Objects.equals(current.getNotes(), incoming.getNotes());
+    }
+
+    private static boolean sameAmount(BigDecimal left, BigDecimal right) {
+        if (left == null || right == null) {
+            return left == right;
+        }
+        return left.compareTo(right) == 0;
+    }
+
+    private static String validate(Asset asset) {
+        if (asset == null) {
+            return "row is empty";
+        }
+        if (isBlank(asset.getAssetCode())) {
+            return "assetCode is required";
+        }
+        if (isBlank(asset.getName())) {
+            return "name is required";
+        }
+        if (isBlank(asset.getCategory())) {
+            return "category is required";
+        }
+        if (isBlank(asset.getStatus())) {
+            return "status is required";
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        void write(List<AssetCsv.ParsedRow> chunk, String auditor, Tally tally);
+    }
+
+    @FunctionalInterface
+    private interface BatchWrite {
+        void write(List<Asset> assets, String auditor, Instant now);
+    }
+
+    private static final class Tally {
+        private final List<BulkRowError> errors = new ArrayList<>();
+        private long received;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+
+        private void reject(AssetCsv.ParsedRow row, String message) {
+            errors.add(new BulkRowError(row.row(), row.asset() == null ? null : row.asset().getAssetCode(), message));
+        }
+    }
+}
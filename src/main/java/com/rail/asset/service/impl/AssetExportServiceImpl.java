@@ -0,0 +1,89 @@
+package com.rail.asset.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetExportService;
+import com.rail.asset.service.ExportFormat;
+import com.rail.asset.service.support.AssetCsv;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class AssetExportServiceImpl implements AssetExportService {
+
+    private final AssetRepository assetRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
+    private final int fetchSize;
+
+    public AssetExportServiceImpl(
+        AssetRepository assetRepository,
+        EntityManager entityManager,
+        ObjectMapper objectMapper,
+        @Value("${rail.asset.export.fetch-size:500}") int fetchSize
+    ) {
+        this.assetRepository = assetRepository;
+        this.entityManager = entityManager;
+        this.ndjsonWriter = objectMapper.writerFor(Asset.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public long export(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<Asset> assets = assetRepository.streamAll(fetchSize)) {
+            long rows = switch (format) {
+                case NDJSON -> writeNdjson(assets.iterator(), writer);
+                case CSV -> writeCsv(assets.iterator(), writer);
+            };
+            writer.flush();
+            return rows;
+        }
+    }
+
+    private long writeNdjson(Iterator<Asset> assets, Writer writer) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            while (assets.hasNext()) {
+                Asset asset = assets.next();
+                ndjsonWriter.writeValue(generator, asset);
+                entityManager.detach(asset);
+                rows++;
+            }
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        return rows;
+    }
+
+    private long writeCsv(Iterator<Asset> assets, Writer writer) throws IOException {
+        long rows = 0;
+        AssetCsv.writeHeader(writer);
+        while (assets.hasNext()) {
+            Asset asset = assets.next();
+            AssetCsv.writeRow(writer, asset);
+            entityManager.detach(asset);
+            rows++;
+        }
+        return rows;
+    }
+}
@@ -1,10 +1,34 @@
 package com.rail.asset.service.impl;
 
+import com.rail.asset.config.ReplicaRoutingDataSource;
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
 import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.repository.AssetSpecifications;
+import com.rail.asset.repository.AssetSummaryRow;
+import com.rail.asset.service.AssetCursor;
+import com.rail.asset.service.AssetSearchCriteria;
 import com.rail.asset.service.AssetService;
+import com.rail.asset.service.AssetSort;
+import com.rail.asset.service.AssetSortField;
+import com.rail.asset.service.AssetVersionConflictException;
+import com.rail.asset.service.CursorPage;
+import com.rail.asset.service.cache.AssetCacheNames;
+import com.rail.asset.service.event.AssetChangedEvent;
+import com.rail.asset.service.location.AssetLocationTree;
+import com.rail.asset.service.support.AssetNormalizer;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Locale;
+import java.util.function.Function;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,28 +36,50 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class AssetServiceImpl implements AssetService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 500;
+    static final int MAX_DUE_WINDOW_DAYS = 366;
+
     private final AssetRepository assetRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
-    public AssetServiceImpl(AssetRepository assetRepository) {
+    public AssetServiceImpl(AssetRepository assetRepository, ApplicationEventPublisher eventPublisher, Clock clock) {
         this.assetRepository = assetRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
     }
 
     @Override
     public Asset create(Asset asset) {
         validateUniqueCode(asset.getAssetCode(), null);
-        normalize(asset);
-        return assetRepository.save(asset);
+        AssetNormalizer.normalize(asset);
+        Asset created = assetRepository.save(asset);
+        eventPublisher.publishEvent(AssetChangedEvent.created(created));
+        return created;
     }
 
     @Override
     public Asset update(Long id, Asset asset) {
+        return update(id, asset, null);
+    }
+
+    @Override
+    public Asset update(Long id, Asset asset, Long expectedVersion) {
         Asset existing = assetRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Asset not found: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw new AssetVersionConflictException(id, expectedVersion, existing.getVersion());
+        }
 
         validateUniqueCode(asset.getAssetCode(), id);
+        Asset previous = AssetChangedEvent.copyOf(existing);
         applyUpdates(existing, asset);
-        normalize(existing);
-        return assetRepository.save(existing);
+        AssetNormalizer.normalize(existing);
+        // Flush first so the event carries the bumped version and updatedAt that the caller receives.
+        Asset updated = assetRepository.saveAndFlush(existing);
+        eventPublisher.publishEvent(AssetChangedEvent.updated(previous, updated));
+        return updated;
     }
 
     @Override
@@ -41,19 +87,39 @@ public class AssetServiceImpl implements AssetService {
         Asset existing = assetRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Asset not found: " + id));
         assetRepository.delete(existing);
+        eventPublisher.publishEvent(AssetChangedEvent.deleted(existing));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = AssetCacheNames.BY_ID, key = "#id")
     public Asset findById(Long id) {
+        ReplicaRoutingDataSource.readFromPrimary();
         return assetRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Asset not found: " + id));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = AssetCacheNames.BY_CODE,
+        key = "T(com.rail.asset.service.support.AssetNormalizer).normalizeCode(#assetCode)")
     public Asset findByAssetCode(String assetCode) {
-        return assetRepository.findByAssetCode(assetCode)
+        ReplicaRoutingDataSource.readFromPrimary();
+        return assetRepository.findByAssetCode(AssetNormalizer.normalizeCode(assetCode))
+            .orElseThrow(() -> new RuntimeException("Asset not found by code: " + assetCode));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetVersion findVersion(Long id) {
+        return assetRepository.findVersionById(id)
+            .orElseThrow(() -> new RuntimeException("Asset not found: " + id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetVersion findVersionByAssetCode(String assetCode) {
+        return assetRepository.findVersionByAssetCode(AssetNormalizer.normalizeCode(assetCode))
             .orElseThrow(() -> new RuntimeException("Asset not found by code: " + assetCode));
     }
 
@@ -75,6 +141,269 @@ public class AssetServiceImpl implements AssetService {
         return assetRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findPage(String cursor, Integer limit) {
+        return page(cursor, limit, Asset::getId,
+            (afterId, fetch) -> assetRepository.findByIdGreaterThanOrderByIdAsc(afterId, fetch));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findPageByCategoryAndStatus(String category, String status, String cursor, Integer limit) {
+        return page(cursor, limit, Asset::getId, (afterId, fetch) ->
+            assetRepository.findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(category, status, afterId, fetch));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findPageByLocation(String locationCode, String cursor, Integer limit) {
+        return page(cursor, limit, Asset::getId, (afterId, fetch) ->
+            assetRepository.findByLocationCodeAndIdGreaterThanOrderByIdAsc(locationCode, afterId, fetch));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> findSummaryPage(String cursor, Integer limit) {
+        return page(cursor, limit, AssetSummary::id, (afterId, fetch) ->
+            assetRepository.findByIdGreaterThanOrderByIdAsc(afterId, fetch, AssetSummary.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> findSummaryPageByCategoryAndStatus(
+        String category,
+        String status,
+        String cursor,
+        Integer limit
+    ) {
+        return page(cursor, limit, AssetSummary::id, (afterId, fetch) ->
+            assetRepository.findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(
+                category, status, afterId, fetch, AssetSummary.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> findSummaryPageByLocation(String locationCode, String cursor, Integer limit) {
+        return page(cursor, limit, AssetSummary::id, (afterId, fetch) ->
+            assetRepository.findByLocationCodeAndIdGreaterThanOrderByIdAsc(
+                locationCode, afterId, fetch, AssetSummary.class));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findPageByLocationPrefix(String prefix, String cursor, Integer limit) {
+        return locationPage(null, requiredLocation(prefix, "prefix"), cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findPageByLocationSubtree(String locationCode, String cursor, Integer limit) {
+        String node = requiredLocation(locationCode, "subtree");
+        // The node itself plus everything filed below it, but not siblings that merely share a prefix.
+        return locationPage(node, node + AssetLocationTree.SEPARATOR, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> findSummaryPageByLocationPrefix(String prefix, String cursor, Integer limit) {
+        return locationSummaryPage(null, requiredLocation(prefix, "prefix"), cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> findSummaryPageByLocationSubtree(String locationCode, String cursor, Integer limit) {
+        String node = requiredLocation(locationCode, "subtree");
+        return locationSummaryPage(node, node + AssetLocationTree.SEPARATOR, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> search(AssetSearchCriteria criteria, AssetSort sort, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        Specification<Asset> spec = searchSpecification(criteria, sort, cursor);
+        Sort.Direction direction = sort.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort order = sort.field() == AssetSortField.ID
+            ? Sort.by(direction, "id")
+            : Sort.by(direction, sort.field().attribute(), "id");
+        // Keyset plus limit keeps every filter combination to one bounded index walk.
+        List<Asset> rows = assetRepository.findBy(spec, query -> query.sortBy(order).limit(pageSize + 1).all());
+        return toPage(rows, pageSize, asset -> cursorOf(sort.field(), asset.getId(), sort.field().valueOf(asset)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AssetSummary> searchSummaries(
+        AssetSearchCriteria criteria,
+        AssetSort sort,
+        String cursor,
+        Integer limit
+    ) {
+        int pageSize = pageSize(limit);
+        List<AssetSummaryRow> rows = assetRepository.findSummaries(searchSpecification(criteria, sort, cursor),
+            sort.field().attribute(), sort.descending(), pageSize + 1);
+        CursorPage<AssetSummaryRow> page = toPage(rows, pageSize,
+            row -> cursorOf(sort.field(), row.summary().id(), row.sortKey()));
+        return new CursorPage<>(page.items().stream().map(AssetSummaryRow::summary).toList(), page.nextCursor());
+    }
+
+    private static Specification<Asset> searchSpecification(AssetSearchCriteria criteria, AssetSort sort, String cursor) {
+        AssetSearchCriteria filters = criteria.normalized();
+        AssetCursor position = AssetCursor.decode(cursor);
+        return Specification.allOf(
+            AssetSpecifications.equalTo("assetCode", filters.assetCode()),
+            AssetSpecifications.equalTo("category", filters.category()),
+            AssetSpecifications.equalTo("subCategory", filters.subCategory()),
+            AssetSpecifications.equalTo("status", filters.status()),
+            AssetSpecifications.equalTo("locationCode", filters.location()),
+            AssetSpecifications.equalTo("manufacturer", filters.manufacturer()),
+            AssetSpecifications.equalTo("modelNumber", filters.modelNumber()),
+            AssetSpecifications.equalTo("serialNumber", filters.serialNumber()),
+            dateRange("installDate", filters.installedFrom(), filters.installedTo()),
+            dateRange("lastInspectionDate", filters.inspectedFrom(), filters.inspectedTo()),
+            dateRange("nextInspectionDue", filters.dueFrom(), filters.dueTo()),
+            seek(sort, position, cursor));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findOverdue(String locationCode, String category, String cursor, Integer limit) {
+        LocalDate today = LocalDate.now(clock);
+        return duePage(null, today.minusDays(1), locationCode, category, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Asset> findDueWithin(int days, String locationCode, String category, String cursor, Integer limit) {
+        if (days < 0 || days > MAX_DUE_WINDOW_DAYS) {
+            throw new IllegalArgumentException("days must be between 0 and " + MAX_DUE_WINDOW_DAYS);
+        }
+        LocalDate today = LocalDate.now(clock);
+        return duePage(today, today.plusDays(days), locationCode, category, cursor, limit);
+    }
+
+    private CursorPage<Asset> duePage(
+        LocalDate dueFrom,
+        LocalDate dueTo,
+        String locationCode,
+        String category,
+        String cursor,
+        Integer limit
+    ) {
+        int pageSize = pageSize(limit);
+        AssetCursor position = keyedCursor(cursor);
+        LocalDate afterDue = position.sortKey() == null ? null : parseDate(position.sortKey(), cursor);
+        List<Asset> rows = assetRepository.findInspectionDue(dueFrom, dueTo,
+            AssetNormalizer.normalizeCode(locationCode), category, afterDue, position.lastId(), pageSize + 1);
+        return toPage(rows, pageSize, asset -> new AssetCursor(asset.getNextInspectionDue().toString(), asset.getId()));
+    }
+
+    private CursorPage<Asset> locationPage(String locationCode, String prefix, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        AssetCursor position = keyedCursor(cursor);
+        List<Asset> rows = assetRepository.findWithinLocation(
+            locationCode, prefix, position.sortKey(), position.lastId(), pageSize + 1);
+        return toPage(rows, pageSize, asset -> new AssetCursor(asset.getLocationCode(), asset.getId()));
+    }
+
+    private CursorPage<AssetSummary> locationSummaryPage(String locationCode, String prefix, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        AssetCursor position = keyedCursor(cursor);
+        List<AssetSummary> rows = assetRepository.findSummariesWithinLocation(
+            locationCode, prefix, position.sortKey(), position.lastId(), pageSize + 1);
+        return toPage(rows, pageSize, summary -> new AssetCursor(summary.locationCode(), summary.id()));
+    }
+
+    // An id-only or foreign cursor has no sort key and would silently restart the listing.
+    private static AssetCursor keyedCursor(String cursor) {
+        AssetCursor position = AssetCursor.decode(cursor);
+        if (!position.isStart() && position.sortKey() == null) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return position;
+    }
+
+    private static String requiredLocation(String value, String parameter) {
+        String normalized = AssetNormalizer.normalizeCode(value);
+        if (normalized == null || normalized.isEmpty()) {
+            throw new IllegalArgumentException(parameter + " must not be blank");
+        }
+        return normalized;
+    }
+
+    private static Specification<Asset> dateRange(String attribute, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException(attribute + " range starts after it ends");
+        }
+        return AssetSpecifications.between(attribute, from, to);
+    }
+
+    private static Specification<Asset> seek(AssetSort sort, AssetCursor position, String cursor) {
+        if (position.isStart()) {
+            return null;
+        }
+        if (sort.field() == AssetSortField.ID) {
+            return AssetSpecifications.idBeyond(position.lastId(), sort.descending());
+        }
+        String key = position.sortKey();
+        if (key == null) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        // An empty key marks a cursor that stopped inside the run of rows without a value.
+        if (sort.field() == AssetSortField.UPDATED_AT) {
+            return AssetSpecifications.seekBeyond(sort.field().attribute(),
+                key.isEmpty() ? null : parseInstant(key, cursor), position.lastId(), sort.descending());
+        }
+        return AssetSpecifications.seekBeyond(sort.field().attribute(),
+            key.isEmpty() ? null : parseDate(key, cursor), position.lastId(), sort.descending());
+    }
+
+    private static AssetCursor cursorOf(AssetSortField field, Long id, Object value) {
+        if (field == AssetSortField.ID) {
+            return new AssetCursor(id);
+        }
+        return new AssetCursor(value == null ? "" : value.toString(), id);
+    }
+
+    private static Instant parseInstant(String value, String cursor) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    private static LocalDate parseDate(String value, String cursor) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, ex);
+        }
+    }
+
+    private <T> CursorPage<T> page(String cursor, Integer limit, Function<T, Long> idOf, KeysetQuery<T> query) {
+        int pageSize = pageSize(limit);
+        AssetCursor position = AssetCursor.decode(cursor);
+        // Fetch one extra row to learn whether another page exists without a count query.
+        List<T> rows = query.fetch(position.lastId(), Limit.of(pageSize + 1));
+        return toPage(rows, pageSize, row -> new AssetCursor(idOf.apply(row)));
+    }
+
+    static int pageSize(Integer requested) {
+        if (requested == null || requested <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    static <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, AssetCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
     private void validateUniqueCode(String assetCode, Long currentId) {
         assetRepository.findByAssetCode(assetCode)
             .ifPresent(existing -> {
@@ -102,15 +431,8 @@ public class AssetServiceImpl implements AssetService {
         target.setNotes(source.getNotes());
     }
 
-    private void normalize(Asset asset) {
-        if (asset.getAssetCode() != null) {
-            asset.setAssetCode(asset.getAssetCode().trim().toUpperCase(Locale.ROOT));
-        }
-        if (asset.getLocationCode() != null) {
-            asset.setLocationCode(asset.getLocationCode().trim().toUpperCase(Locale.ROOT));
-        }
-        if (asset.getStatus() != null) {
-            asset.setStatus(asset.getStatus().trim().toUpperCase(Locale.ROOT));
-        }
+    @FunctionalInterface
+    private interface KeysetQuery<T> {
+        List<T> fetch(Long afterId, Limit limit);
     }
 }
@@ -0,0 +1,100 @@
+package com.rail.asset.service.impl;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetTombstone;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.repository.AssetTombstoneRepository;
+import com.rail.asset.service.AssetChangeSet;
+import com.rail.asset.service.AssetSyncService;
+import com.rail.asset.service.SyncToken;
+import com.rail.asset.service.SyncTokenExpiredException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class AssetSyncServiceImpl implements AssetSyncService {
+
+    private final AssetRepository assetRepository;
+    private final AssetTombstoneRepository tombstoneRepository;
+    private final Clock clock;
+    private final Duration settleWindow;
+    private final Duration tombstoneRetention;
+
+    public AssetSyncServiceImpl(
+        AssetRepository assetRepository,
+        AssetTombstoneRepository tombstoneRepository,
+        Clock clock,
+        @Value("${rail.asset.sync.settle-window:PT5S}") Duration settleWindow,
+        @Value("${rail.asset.sync.tombstone-retention:P30D}") Duration tombstoneRetention
+    ) {
+        this.assetRepository = assetRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.clock = clock;
+        this.settleWindow = settleWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AssetChangeSet changesSince(String token, Integer limit) {
+        int pageSize = AssetServiceImpl.pageSize(limit);
+        Instant now = clock.instant();
+        // Timestamps are taken before commit, so rows stamped inside the settle window may still
+        // belong to open transactions; hold them back until a later call.
+        Instant horizon = now.minus(settleWindow);
+
+        SyncToken position;
+        if (token == null || token.isBlank()) {
+            // An empty replica has nothing to delete, so deletions start at the horizon.
+            position = new SyncToken(Instant.EPOCH, 0L, horizon, 0L);
+        } else {
+            position = SyncToken.decode(token);
+            if (position.deletedAfter().isBefore(now.minus(tombstoneRetention))) {
+                throw new SyncTokenExpiredException("Sync token predates tombstone retention; full resync required");
+            }
+        }
+
+        List<Asset> changed = assetRepository.findChangedAfter(
+            position.changedAfter(), position.changedId(), horizon, Limit.of(pageSize + 1));
+        List<AssetTombstone> deleted = tombstoneRepository.findDeletedAfter(
+            position.deletedAfter(), position.deletedId(), horizon, Limit.of(pageSize + 1));
+        boolean moreChanged = changed.size() > pageSize;
+        boolean moreDeleted = deleted.size() > pageSize;
+        changed = List.copyOf(changed.subList(0, Math.min(pageSize, changed.size())));
+        deleted = List.copyOf(deleted.subList(0, Math.min(pageSize, deleted.size())));
+
+        // A drained side jumps to the horizon so idle clients never fall behind tombstone retention.
+        Instant changedAfter = horizon;
+        long changedId = 0L;
+        if (moreChanged) {
+            Asset last = changed.get(changed.size() - 1);
+            changedAfter = last.getUpdatedAt();
+            changedId = last.getId();
+        }
+        Instant deletedAfter = horizon;
+        long deletedId = 0L;
+        if (moreDeleted) {
+            AssetTombstone last = deleted.get(deleted.size() - 1);
+            deletedAfter = last.getDeletedAt();
+            deletedId = last.getAssetId();
+        }
+        SyncToken next = new SyncToken(changedAfter, changedId, deletedAfter, deletedId);
+        return new AssetChangeSet(changed, deleted, next.encode(), moreChanged || moreDeleted);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(
+        initialDelayString = "${rail.asset.sync.purge-interval:PT1H}",
+        fixedDelayString = "${rail.asset.sync.purge-interval:PT1H}")
+    public int purgeExpiredTombstones() {
+        return tombstoneRepository.deleteByDeletedAtBefore(clock.instant().minus(tombstoneRetention));
+    }
+}
@@ -0,0 +1,244 @@
+package com.rail.asset.service.impl;
+
+import com.rail.asset.repository.AssetValuationReader;
+import com.rail.asset.service.AssetValuationService;
+import com.rail.asset.service.PortfolioValuation;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// Straight-line depreciation accrued daily and capped at the cost. Money is carried as cents and rates
+// as hundredths of a percent, so per-row work is plain long arithmetic.
+@Service
+public class AssetValuationServiceImpl implements AssetValuationService {
+
+    static final long FULL_LIFE = 10_000L * 365;
+    private static final int LEAF_SIZE = 4096;
+    private static final Comparator<String> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private final AssetValuationReader valuationReader;
+    private final Clock clock;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public AssetValuationServiceImpl(
+        AssetValuationReader valuationReader,
+        Clock clock,
+        @Value("${rail.asset.valuation.chunk-size:50000}") int chunkSize,
+        @Value("${rail.asset.valuation.parallelism:0}") int parallelism
+    ) {
+        this.valuationReader = valuationReader;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PortfolioValuation valueAt(LocalDate asOf) {
+        LocalDate date = asOf == null ? LocalDate.now(clock) : asOf;
+        long asOfDay = date.toEpochDay();
+        GroupDictionary groups = new GroupDictionary();
+        Totals totals = new Totals(0);
+        long[] unvalued = {0};
+        long afterId = 0;
+        ForkJoinTask<Totals> inFlight = null;
+
+        // Read the next chunk while the previous one is being valued.
+        while (true) {
+            Chunk chunk = new Chunk(chunkSize);
+            long lastId = valuationReader.readChunk(afterId, chunkSize, (category, location, installDay, cost, rate) -> {
+                if (cost == AssetValuationReader.NONE) {
+                    unvalued[0]++;
+                } else {
+                    chunk.add(groups.codeOf(category, location), installDay, cost, rate);
+                }
+            });
+            if (inFlight != null) {
+                totals.add(inFlight.join());
+            }
+            if (lastId == afterId) {
+                break;
+            }
+            afterId = lastId;
+            inFlight = pool.submit(new ValuationTask(chunk, 0, chunk.size, asOfDay, groups.size()));
+        }
+        return summarize(date, totals, unvalued[0], groups);
+    }
+
+    static long accumulatedDepreciation(long costCents, long rateBasisPoints, long installDay, long asOfDay) {
+        if (costCents <= 0 || rateBasisPoints <= 0 || installDay == AssetValuationReader.NONE || asOfDay <= installDay) {
+            return 0;
+        }
+        long elapsed = rateBasisPoints * (asOfDay - installDay);
+        if (elapsed >= FULL_LIFE) {
+            return costCents;
+        }
+        // cost * elapsed / FULL_LIFE, split so the intermediate product cannot overflow; rounds half up.
+        long whole = costCents / FULL_LIFE;
+        long rest = costCents % FULL_LIFE;
+        return whole * elapsed + (rest * elapsed + FULL_LIFE / 2) / FULL_LIFE;
+    }
+
+    private PortfolioValuation summarize(LocalDate asOf, Totals totals, long unvalued, GroupDictionary groups) {
+        long assets = 0;
+        long cost = 0;
+        long accumulated = 0;
+        for (int group = 0; group < totals.assets.length; group++) {
+            assets += totals.assets[group];
+            cost = Math.addExact(cost, totals.cost[group]);
+            accumulated = Math.addExact(accumulated, totals.accumulated[group]);
+        }
+        return new PortfolioValuation(asOf, assets, unvalued, cents(cost), cents(accumulated),
+            cents(cost - accumulated),
+            rollUp(totals, groups, index -> groups.categories.get(index)),
+            rollUp(totals, groups, index -> groups.locations.get(index)));
+    }
+
+    private static List<PortfolioValuation.ValuationGroup> rollUp(
+        Totals totals,
+        GroupDictionary groups,
+        Function<Integer, String> keyOf
+    ) {
+        Map<String, long[]> sums = new TreeMap<>(NULLS_LAST);
+        for (int group = 0; group < totals.assets.length; group++) {
+            long[] sum = sums.computeIfAbsent(keyOf.apply(group), key -> new long[3]);
+            sum[0] += totals.assets[group];
+            sum[1] = Math.addExact(sum[1], totals.cost[group]);
+            sum[2] = Math.addExact(sum[2], totals.accumulated[group]);
+        }
+        List<PortfolioValuation.ValuationGroup> result = new ArrayList<>(sums.size());
+        sums.forEach((key, sum) -> result.add(new PortfolioValuation.ValuationGroup(
+            key, sum[0], cents(sum[1]), cents(sum[2]), cents(sum[1] - sum[2]))));
+        return List.copyOf(result);
+    }
+
+    private static BigDecimal cents(long value) {
+        return BigDecimal.valueOf(value, 2);
+    }
+
+    // Category x location pairs are dictionary-coded so partial sums are plain arrays indexed by group.
+    private static final class GroupDictionary {
+        private final Map<String, Map<String, Integer>> codes = new HashMap<>();
+        private final List<String> categories = new ArrayList<>();
+        private final List<String> locations = new ArrayList<>();
+
+        int codeOf(String category, String location) {
+            return codes.computeIfAbsent(category, key -> new HashMap<>()).computeIfAbsent(location, key -> {
+                categories.add(category);
+                locations.add(location);
+                return categories.size() - 1;
+            });
+        }
+
+        int size() {
+            return categories.size();
+        }
+    }
+
+    private static final class Chunk {
+        private final int[] group;
+        private final long[] installDay;
+        private final long[] cost;
+        private final long[] rate;
+        private int size;
+
+        Chunk(int capacity) {
+            group = new int[capacity];
+            installDay = new long[capacity];
+            cost = new long[capacity];
+            rate = new long[capacity];
+        }
+
+        void add(int groupCode, long install, long costCents, long rateBasisPoints) {
+            group[size] = groupCode;
+            installDay[size] = install;
+            cost[size] = costCents;
+            rate[size] = rateBasisPoints;
+            size++;
+        }
+    }
+
+    private static final class Totals {
+        private long[] assets;
+        private long[] cost;
+        private long[] accumulated;
+
+        Totals(int groups) {
+            assets = new long[groups];
+            cost = new long[groups];
+            accumulated = new long[groups];
+        }
+
+        void add(Totals other) {
+            if (other.assets.length > assets.length) {
+                assets = Arrays.copyOf(assets, other.assets.length);
+                cost = Arrays.copyOf(cost, other.assets.length);
+                accumulated = Arrays.copyOf(accumulated, other.assets.length);
+            }
+            for (int group = 0; group < other.assets.length; group++) {
+                assets[group] += other.assets[group];
+                cost[group] = Math.addExact(cost[group], other.cost[group]);
+                accumulated[group] = Math.addExact(accumulated[group], other.accumulated[group]);
+            }
+        }
+    }
+
+    private static final class ValuationTask extends RecursiveTask<Totals> {
+        private final Chunk chunk;
+        private final int from;
+        private final int to;
+        private final long asOfDay;
+        private final int groups;
+
+        ValuationTask(Chunk chunk, int from, int to, long asOfDay, int groups) {
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+            this.asOfDay = asOfDay;
+            this.groups = groups;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= LEAF_SIZE) {
+                Totals totals = new Totals(groups);
+                for (int i = from; i < to; i++) {
+                    int group = chunk.group[i];
+                    long cost = chunk.cost[i];
+                    totals.assets[group]++;
+                    totals.cost[group] = Math.addExact(totals.cost[group], cost);
+                    totals.accumulated[group] += accumulatedDepreciation(cost, chunk.rate[i], chunk.installDay[i], asOfDay);
+                }
+                return totals;
+            }
+            int middle = (from + to) >>> 1;
+            ValuationTask left = new ValuationTask(chunk, from, middle, asOfDay, groups);
+            left.fork();
+            Totals right = new ValuationTask(chunk, middle, to, asOfDay, groups).compute();
+            Totals combined = left.join();
+            combined.add(right);
+            return combined;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.rail.asset.service.location;
+
+import java.util.List;
+
+// One level of the location hierarchy: assets filed exactly here, assets anywhere below, and the next level down.
+public record AssetLocationNode(String path, long assets, long subtreeAssets, List<AssetLocationNode> children) {
+}
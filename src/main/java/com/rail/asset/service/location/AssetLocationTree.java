@@ -0,0 +1,150 @@
+package com.rail.asset.service.location;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetLocationCount;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.event.AssetChangedEvent;
+import com.rail.asset.service.support.AssetNormalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// Trie of location codes with asset counts per node, so drill-down browsing never touches the database.
+@Component
+public class AssetLocationTree implements SmartInitializingSingleton {
+
+    public static final char SEPARATOR = '-';
+
+    private static final int STARTUP_ATTEMPTS = 5;
+
+    private final AssetRepository assetRepository;
+    private Node root = new Node(null);
+    private long changes;
+
+    public AssetLocationTree(AssetRepository assetRepository) {
+        this.assetRepository = assetRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (int attempt = 0; attempt < STARTUP_ATTEMPTS; attempt++) {
+            if (rebuild()) {
+                return;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        String before = locationOf(event.previous());
+        String after = locationOf(event.current());
+        if (Objects.equals(before, after)) {
+            return;
+        }
+        synchronized (this) {
+            add(root, before, -1);
+            add(root, after, 1);
+            changes++;
+        }
+    }
+
+    // The top level when path is blank.
+    public synchronized Optional<AssetLocationNode> browse(String path) {
+        String normalized = AssetNormalizer.normalizeCode(path);
+        if (normalized == null || normalized.isEmpty()) {
+            return Optional.of(root.view());
+        }
+        Node node = root;
+        for (String segment : segments(normalized)) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(node.view());
+    }
+
+    // Abandoned, like the facet reconcile, when a change lands while the query runs.
+    @Scheduled(
+        initialDelayString = "${rail.asset.locations.rebuild-interval:PT5M}",
+        fixedDelayString = "${rail.asset.locations.rebuild-interval:PT5M}")
+    public boolean rebuild() {
+        long seen;
+        synchronized (this) {
+            seen = changes;
+        }
+        List<AssetLocationCount> rows = assetRepository.countByLocation();
+        Node fresh = new Node(null);
+        rows.forEach(row -> add(fresh, row.locationCode(), row.count()));
+        synchronized (this) {
+            if (changes != seen) {
+                return false;
+            }
+            root = fresh;
+            return true;
+        }
+    }
+
+    private static void add(Node root, String location, long delta) {
+        if (location == null || location.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        node.subtree += delta;
+        int start = 0;
+        for (String segment : segments(location)) {
+            start += segment.length();
+            String path = location.substring(0, start);
+            start++;
+            Node child = node.children.computeIfAbsent(segment, key -> new Node(path));
+            child.subtree += delta;
+            if (child.subtree <= 0) {
+                // Nothing left anywhere below, so the branch goes with it.
+                node.children.remove(segment);
+                return;
+            }
+            node = child;
+        }
+        node.assets += delta;
+    }
+
+    private static List<String> segments(String location) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = location.indexOf(SEPARATOR, start)) >= 0) {
+            segments.add(location.substring(start, end));
+            start = end + 1;
+        }
+        segments.add(location.substring(start));
+        return segments;
+    }
+
+    private static String locationOf(Asset asset) {
+        return asset == null ? null : asset.getLocationCode();
+    }
+
+    private static final class Node {
+        private final String path;
+        private final TreeMap<String, Node> children = new TreeMap<>();
+        private long assets;
+        private long subtree;
+
+        private Node(String path) {
+            this.path = path;
+        }
+
+        private AssetLocationNode view() {
+            List<AssetLocationNode> next = new ArrayList<>(children.size());
+            children.values().forEach(child ->
+                next.add(new AssetLocationNode(child.path, child.assets, child.subtree, List.of())));
+            return new AssetLocationNode(path, assets, subtree, List.copyOf(next));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.rail.asset.service.report;
+
+import com.rail.asset.service.ExportFormat;
+import java.nio.file.Path;
+
+// A finished report: gzip-compressed content of the given format.
+public record ReportDownload(Path file, ExportFormat format, String fileName) {
+}
@@ -0,0 +1,334 @@
+package com.rail.asset.service.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.ExportFormat;
+import com.rail.asset.service.location.AssetLocationNode;
+import com.rail.asset.service.location.AssetLocationTree;
+import com.rail.asset.service.support.AssetCsv;
+import com.rail.asset.service.support.AssetNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Reports run on a small pool with a bounded queue, reading the register one short read-only chunk at a time.
+// Job state is kept in memory only.
+@Component
+public class ReportJobService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final Pattern FILE_NAME_UNSAFE = Pattern.compile("[^A-Za-z0-9_-]");
+
+    private final Map<String, ReportJob> jobs = new ConcurrentHashMap<>();
+    private final AssetRepository assetRepository;
+    private final AssetLocationTree locationTree;
+    private final ObjectWriter ndjsonWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+    private final Path directory;
+    private final int chunkSize;
+    private final Duration retention;
+    private final ThreadPoolExecutor workers;
+    private final Counter completed;
+    private final Counter failed;
+
+    public ReportJobService(
+        AssetRepository assetRepository,
+        AssetLocationTree locationTree,
+        ObjectMapper objectMapper,
+        PlatformTransactionManager transactionManager,
+        Clock clock,
+        MeterRegistry meterRegistry,
+        @Value("${rail.reports.directory:${java.io.tmpdir}/rail-reports}") String directory,
+        @Value("${rail.reports.workers:2}") int workerCount,
+        @Value("${rail.reports.queue-capacity:20}") int queueCapacity,
+        @Value("${rail.reports.chunk-size:1000}") int chunkSize,
+        @Value("${rail.reports.retention:PT24H}") Duration retention
+    ) {
+        this.assetRepository = assetRepository;
+        this.locationTree = locationTree;
+        this.ndjsonWriter = objectMapper.writerFor(Asset.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = clock;
+        this.directory = Paths.get(directory);
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot create report directory " + directory, ex);
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("report-worker-");
+        threadFactory.setDaemon(true);
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        this.completed = Counter.builder("rail.reports.finished").tag("outcome", "completed").register(meterRegistry);
+        this.failed = Counter.builder("rail.reports.finished").tag("outcome", "failed").register(meterRegistry);
+        Gauge.builder("rail.reports.queued", workers, executor -> executor.getQueue().size()).register(meterRegistry);
+        Gauge.builder("rail.reports.running", workers, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public ReportJobStatus submit(ReportRequest request) {
+        ReportType type = ReportType.fromParameter(request.type());
+        ExportFormat format = request.format() == null || request.format().isBlank()
+            ? ExportFormat.CSV
+            : ExportFormat.fromParameter(request.format());
+        String location = AssetNormalizer.normalizeCode(request.location());
+        if (location != null && location.isEmpty()) {
+            location = null;
+        }
+        long estimatedRows;
+        if (type == ReportType.LOCATION_INVENTORY) {
+            if (location == null) {
+                throw new IllegalArgumentException("location is required for a location-inventory report");
+            }
+            estimatedRows = locationTree.browse(location).map(AssetLocationNode::subtreeAssets).orElse(0L);
+        } else {
+            if (location != null) {
+                throw new IllegalArgumentException("location applies only to location-inventory reports");
+            }
+            estimatedRows = assetRepository.count();
+        }
+
+        ReportJob job = new ReportJob(UUID.randomUUID().toString(), type, format, location, estimatedRows, clock.instant());
+        jobs.put(job.id, job);
+        try {
+            workers.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("Report queue is full; try again later", ex);
+        }
+        return job.status(retention);
+    }
+
+    public Optional<ReportJobStatus> status(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(job -> job.status(retention));
+    }
+
+    // Empty when the id is unknown or expired; throws IllegalStateException while the job is still running.
+    public Optional<ReportDownload> download(String id) {
+        ReportJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        if (job.state != ReportState.COMPLETED) {
+            throw new IllegalStateException("Report " + id + " is " + job.state.name().toLowerCase(Locale.ROOT));
+        }
+        String scope = job.location == null ? "" : "-" + FILE_NAME_UNSAFE.matcher(job.location).replaceAll("_");
+        String name = job.type.parameter() + scope + "-" + job.createdAt.atZone(clock.getZone()).toLocalDate()
+            + "." + job.format.extension();
+        return Optional.of(new ReportDownload(resultFile(job), job.format, name));
+    }
+
+    // Also removes files no job knows about, left by an earlier run, once they are older than the retention.
+    @Scheduled(
+        initialDelayString = "${rail.reports.cleanup-interval:PT15M}",
+        fixedDelayString = "${rail.reports.cleanup-interval:PT15M}")
+    public int purgeExpired() {
+        Instant cutoff = clock.instant().minus(retention);
+        int purged = 0;
+        for (ReportJob job : jobs.values()) {
+            Instant finishedAt = job.finishedAt;
+            if (finishedAt != null && finishedAt.isBefore(cutoff)) {
+                jobs.remove(job.id);
+                deleteQuietly(resultFile(job));
+                purged++;
+            }
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (!jobs.containsKey(jobId(file)) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return purged;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void run(ReportJob job) {
+        job.startedAt = clock.instant();
+        job.state = ReportState.RUNNING;
+        Path part = directory.resolve(job.id + PART_SUFFIX);
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(part), 64 * 1024), StandardCharsets.UTF_8))) {
+                switch (job.format) {
+                    case CSV -> writeCsv(job, writer);
+                    case NDJSON -> writeNdjson(job, writer);
+                }
+            }
+            Path result = resultFile(job);
+            Files.move(part, result, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.fileBytes = Files.size(result);
+            job.finish(ReportState.COMPLETED, null, clock.instant());
+            completed.increment();
+        } catch (Exception ex) {
+            deleteQuietly(part);
+            job.finish(ReportState.FAILED, ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage(),
+                clock.instant());
+            failed.increment();
+        }
+    }
+
+    private void writeCsv(ReportJob job, Writer writer) throws IOException {
+        AssetCsv.writeHeader(writer);
+        ChunkReader chunks = new ChunkReader(job);
+        for (List<Asset> chunk = chunks.next(); !chunk.isEmpty(); chunk = chunks.next()) {
+            for (Asset asset : chunk) {
+                AssetCsv.writeRow(writer, asset);
+            }
+            job.rows += chunk.size();
+        }
+    }
+
+    private void writeNdjson(ReportJob job, Writer writer) throws IOException {
+        try (JsonGenerator generator = ndjsonWriter.createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            ChunkReader chunks = new ChunkReader(job);
+            for (List<Asset> chunk = chunks.next(); !chunk.isEmpty(); chunk = chunks.next()) {
+                for (Asset asset : chunk) {
+                    ndjsonWriter.writeValue(generator, asset);
+                }
+                job.rows += chunk.size();
+            }
+            if (job.rows > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private Path resultFile(ReportJob job) {
+        return directory.resolve(job.id + "." + job.format.extension() + GZIP_SUFFIX);
+    }
+
+    private static String jobId(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // Retried by the next purge.
+        }
+    }
+
+    // Keyset over id for the register, over (locationCode, id) for an inventory, as the listing endpoints page.
+    private final class ChunkReader {
+        private final ReportJob job;
+        private String afterCode;
+        private Long afterId;
+
+        private ChunkReader(ReportJob job) {
+            this.job = job;
+        }
+
+        private List<Asset> next() throws InterruptedIOException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Report cancelled by shutdown");
+            }
+            List<Asset> chunk = readOnlyTransaction.execute(status -> job.type == ReportType.REGISTER
+                ? assetRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(chunkSize))
+                : assetRepository.findWithinLocation(job.location, job.location + AssetLocationTree.SEPARATOR,
+                    afterCode, afterId, chunkSize));
+            if (!chunk.isEmpty()) {
+                Asset last = chunk.get(chunk.size() - 1);
+                afterCode = last.getLocationCode();
+                afterId = last.getId();
+            }
+            return chunk;
+        }
+    }
+
+    private static final class ReportJob {
+        private final String id;
+        private final ReportType type;
+        private final ExportFormat format;
+        private final String location;
+        private final long estimatedRows;
+        private final Instant createdAt;
+        private volatile ReportState state = ReportState.QUEUED;
+        private volatile long rows;
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile Long fileBytes;
+        private volatile String error;
+
+        private ReportJob(String id, ReportType type, ExportFormat format, String location, long estimatedRows,
+            Instant createdAt) {
+            this.id = id;
+            this.type = type;
+            this.format = format;
+            this.location = location;
+            this.estimatedRows = estimatedRows;
+            this.createdAt = createdAt;
+        }
+
+        // finishedAt is written before state so a reader that sees a final state also sees when it ended.
+        private void finish(ReportState outcome, String message, Instant at) {
+            error = message;
+            finishedAt = at;
+            state = outcome;
+        }
+
+        private ReportJobStatus status(Duration retention) {
+            ReportState current = state;
+            Instant finished = finishedAt;
+            return new ReportJobStatus(id, type.parameter(), format.extension(), location, current, rows,
+                estimatedRows, createdAt, startedAt, finished, finished == null ? null : finished.plus(retention),
+                current == ReportState.COMPLETED ? fileBytes : null, error);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.rail.asset.service.report;
+
+import java.time.Instant;
+
+// estimatedRows comes from the in-memory counts at submission, so rows may end up slightly above or below it.
+public record ReportJobStatus(
+    String id,
+    String type,
+    String format,
+    String location,
+    ReportState state,
+    long rows,
+    long estimatedRows,
+    Instant createdAt,
+    Instant startedAt,
+    Instant finishedAt,
+    Instant expiresAt,
+    Long fileBytes,
+    String error
+) {
+}
@@ -0,0 +1,5 @@
+package com.rail.asset.service.report;
+
+// type is register or location-inventory; location is only valid for a location inventory.
+public record ReportRequest(String type, String format, String location) {
+}
@@ -0,0 +1,8 @@
+package com.rail.asset.service.report;
+
+public enum ReportState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,31 @@
+package com.rail.asset.service.report;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public enum ReportType {
+    REGISTER("register"),
+    LOCATION_INVENTORY("location-inventory");
+
+    private final String parameter;
+
+    ReportType(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public static ReportType fromParameter(String value) {
+        if (value != null) {
+            for (ReportType type : values()) {
+                if (type.parameter.equals(value.trim())) {
+                    return type;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported report type: " + value + "; allowed: "
+            + Arrays.stream(values()).map(ReportType::parameter).collect(Collectors.joining(", ")));
+    }
+}
@@ -0,0 +1,273 @@
+package com.rail.asset.service.support;
+
+import com.rail.asset.domain.Asset;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public final class AssetCsv {
+
+    public static final List<String> COLUMNS = List.of(
+        "id",
+        "assetCode",
+        "name",
+        "category",
+        "subCategory",
+        "manufacturer",
+        "modelNumber",
+        "serialNumber",
+        "installDate",
+        "status",
+        "locationCode",
+        "maintenanceCycleDays",
+        "lastInspectionDate",
+        "depreciationRate",
+        "acquisitionCost",
+        "notes",
+        "createdBy",
+        "lastModifiedBy",
+        "createdAt",
+        "updatedAt"
+    );
+
+    private AssetCsv() {
+    }
+
+    public static void writeHeader(Writer out) throws IOException {
+        out.write(String.join(",", COLUMNS));
+        out.write("\r\n");
+    }
+
+    public static void writeRow(Writer out, Asset asset) throws IOException {
+        Object[] values = {
+            asset.getId(),
+            asset.getAssetCode(),
+            asset.getName(),
+            asset.getCategory(),
+            asset.getSubCategory(),
+            asset.getManufacturer(),
+            asset.getModelNumber(),
+            asset.getSerialNumber(),
+            asset.getInstallDate(),
+            asset.getStatus(),
+            asset.getLocationCode(),
+            asset.getMaintenanceCycleDays(),
+            asset.getLastInspectionDate(),
+            asset.getDepreciationRate() == null ? null : asset.getDepreciationRate().toPlainString(),
+            asset.getAcquisitionCost() == null ? null : asset.getAcquisitionCost().toPlainString(),
+            asset.getNotes(),
+            asset.getCreatedBy(),
+            asset.getLastModifiedBy(),
+            asset.getCreatedAt(),
+            asset.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (values[i] != null) {
+                writeField(out, values[i].toString());
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private static void writeField(Writer out, String value) throws IOException {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+            || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    public static Iterator<ParsedRow> read(Reader in) {
+        RecordReader records = new RecordReader(in);
+        List<String> header = records.next();
+        if (header == null) {
+            return Collections.emptyIterator();
+        }
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            positions.put(header.get(i).trim(), i);
+        }
+        // A record that cannot be parsed ends the upload as one last error row, so the caller still
+        // reports what the rows before it did.
+        return new Iterator<>() {
+            private List<String> pending;
+            private CsvFormatException failure;
+            private long row;
+
+            {
+                advance();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return pending != null || failure != null;
+            }
+
+            @Override
+            public ParsedRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                row++;
+                if (pending == null) {
+                    String message = "Malformed CSV: " + failure.getMessage() + "; later rows were not read";
+                    failure = null;
+                    return new ParsedRow(row, null, message);
+                }
+                List<String> values = pending;
+                advance();
+                try {
+                    return new ParsedRow(row, toAsset(positions, values), null);
+                } catch (DateTimeParseException | IllegalArgumentException ex) {
+                    return new ParsedRow(row, null, "Malformed value: " + ex.getMessage());
+                }
+            }
+
+            private void advance() {
+                try {
+                    pending = records.next();
+                } catch (CsvFormatException ex) {
+                    pending = null;
+                    failure = ex;
+                }
+            }
+        };
+    }
+
+    private static Asset toAsset(Map<String, Integer> positions, List<String> values) {
+        return new Asset(
+            null,
+            text(positions, values, "assetCode"),
+            text(positions, values, "name"),
+            text(positions, values, "category"),
+            text(positions, values, "subCategory"),
+            text(positions, values, "manufacturer"),
+            text(positions, values, "modelNumber"),
+            text(positions, values, "serialNumber"),
+            date(positions, values, "installDate"),
+            text(positions, values, "status"),
+            text(positions, values, "locationCode"),
+            integer(positions, values, "maintenanceCycleDays"),
+            date(positions, values, "lastInspectionDate"),
+            decimal(positions, values, "depreciationRate"),
+            decimal(positions, values, "acquisitionCost"),
+            text(positions, values, "notes")
+        );
+    }
+
+    private static String text(Map<String, Integer> positions, List<String> values, String column) {
+        Integer index = positions.get(column);
+        if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+            return null;
+        }
+        return values.get(index);
+    }
+
+    private static LocalDate date(Map<String, Integer> positions, List<String> values, String column) {
+        String value = text(positions, values, column);
+        return value == null ? null : LocalDate.parse(value.trim());
+    }
+
+    private static Integer integer(Map<String, Integer> positions, List<String> values, String column) {
+        String value = text(positions, values, column);
+        return value == null ? null : Integer.valueOf(value.trim());
+    }
+
+    private static BigDecimal decimal(Map<String, Integer> positions, List<String> values, String column) {
+        String value = text(positions, values, column);
+        return value == null ? null : new BigDecimal(value.trim());
+    }
+
+    public record ParsedRow(long row, Asset asset, String error) {
+    }
+
+    private static final class RecordReader {
+
+        private final Reader in;
+        private int peeked = -2;
+
+        private RecordReader(Reader in) {
+            this.in = in;
+        }
+
+        private List<String> next() {
+            try {
+                int c = read();
+                while (c == '\r' || c == '\n') {
+                    c = read();
+                }
+                if (c == -1) {
+                    return null;
+                }
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                while (true) {
+                    if (quoted) {
+                        if (c == -1) {
+                            throw new CsvFormatException("Unterminated quoted field");
+                        }
+                        if (c == '"') {
+                            int following = read();
+                            if (following == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                c = following;
+                                continue;
+                            }
+                        } else {
+                            field.append((char) c);
+                        }
+                    } else if (c == '"' && field.isEmpty()) {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else if (c == '\r' || c == '\n' || c == -1) {
+                        if (c == '\r') {
+                            int following = read();
+                            if (following != '\n') {
+                                peeked = following;
+                            }
+                        }
+                        fields.add(field.toString());
+                        return fields;
+                    } else {
+                        field.append((char) c);
+                    }
+                    c = read();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private int read() throws IOException {
+            if (peeked != -2) {
+                int c = peeked;
+                peeked = -2;
+                return c;
+            }
+            return in.read();
+        }
+    }
+}
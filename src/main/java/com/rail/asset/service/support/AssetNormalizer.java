@@ -0,0 +1,20 @@
+package com.rail.asset.service.support;
+
+import com.rail.asset.domain.Asset;
+import java.util.Locale;
+
+public final class AssetNormalizer {
+
+    private AssetNormalizer() {
+    }
+
+    public static void normalize(Asset asset) {
+        asset.setAssetCode(normalizeCode(asset.getAssetCode()));
+        asset.setLocationCode(normalizeCode(asset.getLocationCode()));
+        asset.setStatus(normalizeCode(asset.getStatus()));
+    }
+
+    public static String normalizeCode(String value) {
+        return value == null ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+}
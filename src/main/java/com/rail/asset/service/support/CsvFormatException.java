@@ -0,0 +1,9 @@
+package com.rail.asset.service.support;
+
+// The upload is not well-formed CSV, so no record after this point can be read reliably.
+public class CsvFormatException extends IllegalArgumentException {
+
+    public CsvFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.rail.asset.service.sync;
+
+import com.rail.asset.domain.AssetTombstone;
+import com.rail.asset.repository.AssetTombstoneRepository;
+import com.rail.asset.service.event.AssetChangeType;
+import com.rail.asset.service.event.AssetChangedEvent;
+import java.time.Clock;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AssetTombstoneRecorder {
+
+    private final AssetTombstoneRepository tombstoneRepository;
+    private final Clock clock;
+
+    public AssetTombstoneRecorder(AssetTombstoneRepository tombstoneRepository, Clock clock) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.clock = clock;
+    }
+
+    // Plain listener: runs inside the deleting transaction, so the tombstone commits or rolls back with it.
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        if (event.type() == AssetChangeType.DELETED) {
+            tombstoneRepository.save(new AssetTombstone(event.assetId(), event.previous().getAssetCode(), clock.instant()));
+        }
+    }
+}
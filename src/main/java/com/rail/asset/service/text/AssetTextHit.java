@@ -0,0 +1,12 @@
+package com.rail.asset.service.text;
+
+public record AssetTextHit(
+    Long id,
+    String assetCode,
+    String name,
+    String category,
+    String status,
+    String locationCode,
+    double score
+) {
+}
@@ -0,0 +1,444 @@
+package com.rail.asset.service.text;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.event.AssetChangedEvent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// The last query term, and any term that is not a whole indexed word, matches as a prefix.
+// Hits are ranked by field weight and rarity.
+@Component
+public class AssetTextIndex implements SmartInitializingSingleton {
+
+    static final int MAX_EXPANSIONS = 200;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int SPARSE_RATIO = 32;
+    private static final int COMPACTION_MIN = 1024;
+    private static final double PREFIX_PENALTY = 0.5;
+    private static final Logger log = LoggerFactory.getLogger(AssetTextIndex.class);
+
+    private final AssetRepository assetRepository;
+    private final int loadChunkSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object rebuilding = new Object();
+    private Index index = new Index();
+    private List<AssetChangedEvent> replay;
+
+    public AssetTextIndex(
+        AssetRepository assetRepository,
+        @Value("${rail.asset.text.load-chunk-size:1000}") int loadChunkSize
+    ) {
+        this.assetRepository = assetRepository;
+        this.loadChunkSize = loadChunkSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            log.warn("Could not build the asset text index at startup; search only covers changed assets "
+                + "until the next rebuild", ex);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            index = apply(index, event);
+            if (replay != null) {
+                replay.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<AssetTextHit> search(String query, int limit) {
+        List<String> terms = AssetTokenizer.tokens(query);
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain letters or digits");
+        }
+        lock.readLock().lock();
+        try {
+            return index.search(terms, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Changes committed during the load are replayed onto the fresh index before it is swapped in.
+    @Scheduled(
+        initialDelayString = "${rail.asset.text.rebuild-interval:PT1H}",
+        fixedDelayString = "${rail.asset.text.rebuild-interval:PT1H}")
+    public void rebuild() {
+        synchronized (rebuilding) {
+            List<AssetChangedEvent> changes = new ArrayList<>();
+            setReplay(changes);
+            try {
+                Index fresh = load();
+                lock.writeLock().lock();
+                try {
+                    for (AssetChangedEvent event : changes) {
+                        fresh = apply(fresh, event);
+                    }
+                    index = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } finally {
+                setReplay(null);
+            }
+        }
+    }
+
+    private Index load() {
+        Index fresh = new Index();
+        long afterId = 0;
+        List<Asset> chunk;
+        do {
+            chunk = assetRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(loadChunkSize));
+            for (Asset asset : chunk) {
+                fresh.add(asset);
+                afterId = asset.getId();
+            }
+        } while (chunk.size() == loadChunkSize);
+        return fresh;
+    }
+
+    private void setReplay(List<AssetChangedEvent> changes) {
+        lock.writeLock().lock();
+        try {
+            replay = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Index apply(Index target, AssetChangedEvent event) {
+        target.remove(event.assetId());
+        if (event.current() != null) {
+            target.add(event.current());
+        }
+        return target.needsCompaction() ? target.compact() : target;
+    }
+
+    private enum Field {
+        ASSET_CODE(5),
+        SERIAL_NUMBER(4),
+        NAME(3),
+        MANUFACTURER(2),
+        MODEL_NUMBER(2),
+        NOTES(1);
+
+        private final int weight;
+
+        Field(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record Document(AssetTextHit summary, Map<String, Integer> weights) {
+    }
+
+    private record Expansion(Postings postings, float factor) {
+    }
+
+    // Documents are numbered in insertion order, so appending keeps every posting list sorted.
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private byte[] weights = new byte[4];
+        private int size;
+
+        void append(int doc, int weight) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = (byte) weight;
+            size++;
+        }
+
+        int weightOf(int doc) {
+            int position = Arrays.binarySearch(docs, 0, size, doc);
+            return position < 0 ? 0 : weights[position];
+        }
+    }
+
+    private static final class Index {
+        private final List<Document> documents = new ArrayList<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final NavigableMap<String, Postings> postings = new TreeMap<>();
+
+        int live() {
+            return ordinals.size();
+        }
+
+        void add(Asset asset) {
+            Map<String, Integer> weights = new HashMap<>();
+            collect(weights, AssetTokenizer.codeTokens(asset.getAssetCode()), Field.ASSET_CODE);
+            collect(weights, AssetTokenizer.codeTokens(asset.getSerialNumber()), Field.SERIAL_NUMBER);
+            collect(weights, AssetTokenizer.tokens(asset.getName()), Field.NAME);
+            collect(weights, AssetTokenizer.tokens(asset.getManufacturer()), Field.MANUFACTURER);
+            collect(weights, AssetTokenizer.codeTokens(asset.getModelNumber()), Field.MODEL_NUMBER);
+            collect(weights, AssetTokenizer.tokens(asset.getNotes()), Field.NOTES);
+            add(new Document(new AssetTextHit(asset.getId(), asset.getAssetCode(), asset.getName(),
+                asset.getCategory(), asset.getStatus(), asset.getLocationCode(), 0), weights));
+        }
+
+        private void add(Document document) {
+            int ordinal = documents.size();
+            documents.add(document);
+            ordinals.put(document.summary().id(), ordinal);
+            document.weights().forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new Postings()).append(ordinal, weight));
+        }
+
+        // Removal only forgets the ordinal; postings keep the dead entry until the next compaction.
+        void remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal != null) {
+                documents.set(ordinal, null);
+            }
+        }
+
+        boolean needsCompaction() {
+            return documents.size() > COMPACTION_MIN && documents.size() > 2 * live();
+        }
+
+        Index compact() {
+            Index compacted = new Index();
+            for (Document document : documents) {
+                if (document != null) {
+                    compacted.add(document);
+                }
+            }
+            return compacted;
+        }
+
+        List<AssetTextHit> search(List<String> terms, int limit) {
+            List<List<Expansion>> expanded = new ArrayList<>();
+            List<Long> sizes = new ArrayList<>();
+            List<String> distinct = terms.stream().distinct().limit(MAX_QUERY_TERMS).toList();
+            for (int i = 0; i < distinct.size(); i++) {
+                String term = distinct.get(i);
+                // Type-ahead: only the last term, or one that is not a whole word, matches as a prefix.
+                boolean prefix = i == distinct.size() - 1 || !postings.containsKey(term);
+                List<Expansion> expansions = expand(term, prefix);
+                if (expansions.isEmpty()) {
+                    return List.of();
+                }
+                expanded.add(expansions);
+                sizes.add(expansions.stream().mapToLong(expansion -> expansion.postings().size).sum());
+            }
+            // Rarest term first: it bounds the candidate set for the rest.
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < expanded.size(); i++) {
+                order.add(i);
+            }
+            order.sort(Comparator.comparing(sizes::get));
+            List<List<Expansion>> byRarity = order.stream().map(expanded::get).toList();
+
+            TopK top = new TopK(limit);
+            if (sizes.get(order.get(0)) * SPARSE_RATIO <= documents.size()) {
+                searchSparse(byRarity, top);
+            } else {
+                searchDense(byRarity, top);
+            }
+            return top.hits();
+        }
+
+        // Few candidates: collect them from the rarest term, then probe the other terms by binary search.
+        private void searchSparse(List<List<Expansion>> terms, TopK top) {
+            Map<Integer, Float> scores = new HashMap<>();
+            for (Expansion expansion : terms.get(0)) {
+                Postings list = expansion.postings();
+                for (int i = 0; i < list.size; i++) {
+                    if (documents.get(list.docs[i]) != null) {
+                        scores.merge(list.docs[i], list.weights[i] * expansion.factor(), Math::max);
+                    }
+                }
+            }
+            for (int term = 1; term < terms.size() && !scores.isEmpty(); term++) {
+                List<Expansion> expansions = terms.get(term);
+                scores.entrySet().removeIf(entry -> {
+                    float best = 0;
+                    for (Expansion expansion : expansions) {
+                        best = Math.max(best, expansion.postings().weightOf(entry.getKey()) * expansion.factor());
+                    }
+                    entry.setValue(entry.getValue() + best);
+                    return best == 0;
+                });
+            }
+            scores.forEach((doc, score) -> top.offer(doc, score));
+        }
+
+        // Broad terms: walk every posting once into dense per-document arrays.
+        private void searchDense(List<List<Expansion>> terms, TopK top) {
+            int size = documents.size();
+            float[] scores = new float[size];
+            byte[] matched = new byte[size];
+            // Best score of the term being walked, only needed when a prefix spans several lists.
+            float[] current = terms.stream().anyMatch(expansions -> expansions.size() > 1) ? new float[size] : null;
+            for (int term = 0; term < terms.size(); term++) {
+                for (Expansion expansion : terms.get(term)) {
+                    Postings list = expansion.postings();
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        float score = list.weights[i] * expansion.factor();
+                        if (matched[doc] == term) {
+                            matched[doc] = (byte) (term + 1);
+                            scores[doc] += score;
+                            if (current != null) {
+                                current[doc] = score;
+                            }
+                        } else if (current != null && matched[doc] == term + 1 && score > current[doc]) {
+                            scores[doc] += score - current[doc];
+                            current[doc] = score;
+                        }
+                    }
+                }
+            }
+            for (int doc = 0; doc < size; doc++) {
+                if (matched[doc] == terms.size() && documents.get(doc) != null) {
+                    top.offer(doc, scores[doc]);
+                }
+            }
+        }
+
+        // The term itself plus, for prefixes, up to MAX_EXPANSIONS longer terms; exact matches score higher.
+        private List<Expansion> expand(String term, boolean prefix) {
+            List<Expansion> expansions = new ArrayList<>();
+            String upper = prefix ? term + Character.MAX_VALUE : term;
+            for (Map.Entry<String, Postings> entry : postings.subMap(term, true, upper, !prefix).entrySet()) {
+                if (expansions.size() == MAX_EXPANSIONS) {
+                    break;
+                }
+                double rarity = Math.log(1.0 + (double) Math.max(live(), 1) / entry.getValue().size);
+                double exactness = entry.getKey().length() == term.length() ? 1.0 : PREFIX_PENALTY;
+                expansions.add(new Expansion(entry.getValue(), (float) (rarity * exactness)));
+            }
+            return expansions;
+        }
+
+        private static void collect(Map<String, Integer> weights, List<String> tokens, Field field) {
+            for (String token : tokens) {
+                weights.merge(token, field.weight, Math::max);
+            }
+        }
+
+        // Bounded min-heap of document ordinals; ties go to the earlier indexed document.
+        private final class TopK {
+            private final int[] heap;
+            private final float[] scores;
+            private int size;
+
+            TopK(int limit) {
+                heap = new int[limit];
+                scores = new float[limit];
+            }
+
+            void offer(int doc, float score) {
+                if (size < heap.length) {
+                    heap[size] = doc;
+                    scores[size] = score;
+                    siftUp(size++);
+                } else if (heap.length > 0 && worse(0, doc, score)) {
+                    heap[0] = doc;
+                    scores[0] = score;
+                    siftDown(0);
+                }
+            }
+
+            List<AssetTextHit> hits() {
+                int[] order = new int[size];
+                float[] ranked = new float[size];
+                for (int i = size - 1; i >= 0; i--) {
+                    order[i] = heap[0];
+                    ranked[i] = scores[0];
+                    swap(0, --size);
+                    siftDown(0);
+                }
+                List<AssetTextHit> hits = new ArrayList<>(order.length);
+                for (int i = 0; i < order.length; i++) {
+                    AssetTextHit summary = documents.get(order[i]).summary();
+                    hits.add(new AssetTextHit(summary.id(), summary.assetCode(), summary.name(), summary.category(),
+                        summary.status(), summary.locationCode(), ranked[i]));
+                }
+                return hits;
+            }
+
+            private boolean worse(int slot, int doc, float score) {
+                if (scores[slot] != score) {
+                    return scores[slot] < score;
+                }
+                return heap[slot] > doc;
+            }
+
+            private void siftUp(int slot) {
+                while (slot > 0) {
+                    int parent = (slot - 1) / 2;
+                    if (!worse(slot, heap[parent], scores[parent])) {
+                        return;
+                    }
+                    swap(slot, parent);
+                    slot = parent;
+                }
+            }
+
+            private void siftDown(int slot) {
+                while (true) {
+                    int child = 2 * slot + 1;
+                    if (child >= size) {
+                        return;
+                    }
+                    if (child + 1 < size && worse(child + 1, heap[child], scores[child])) {
+                        child++;
+                    }
+                    if (!worse(child, heap[slot], scores[slot])) {
+                        return;
+                    }
+                    swap(slot, child);
+                    slot = child;
+                }
+            }
+
+            private void swap(int left, int right) {
+                int doc = heap[left];
+                heap[left] = heap[right];
+                heap[right] = doc;
+                float score = scores[left];
+                scores[left] = scores[right];
+                scores[right] = score;
+            }
+        }
+    }
+}
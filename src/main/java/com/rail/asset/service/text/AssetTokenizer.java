@@ -0,0 +1,36 @@
+package com.rail.asset.service.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+final class AssetTokenizer {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private AssetTokenizer() {
+    }
+
+    static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Codes are also indexed with separators removed, so "sn0001" finds "SN-000123".
+    static List<String> codeTokens(String code) {
+        List<String> tokens = tokens(code);
+        if (tokens.size() > 1) {
+            tokens.add(String.join("", tokens));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,61 @@
+package com.rail.asset.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.service.analytics.AnalyticsDimension;
+import com.rail.asset.service.analytics.AssetAnalytics;
+import com.rail.asset.service.analytics.AssetAnalyticsFilter;
+import com.rail.asset.service.analytics.AssetColumnStore;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AssetAnalyticsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AssetAnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetColumnStore assetColumnStore;
+
+    @Test
+    void analyticsBindsFiltersAndGroupBy() throws Exception {
+        AssetAnalyticsFilter filter = new AssetAnalyticsFilter("TRACK", null, null, null, LocalDate.of(2010, 1, 1), null);
+        given(assetColumnStore.aggregate(filter, AnalyticsDimension.INSTALL_YEAR)).willReturn(new AssetAnalytics(
+            2, new BigDecimal("30.00"), "installYear", List.of(new AssetAnalytics.Group("2012", 2, new BigDecimal("30.00")))));
+
+        mockMvc.perform(get("/api/assets/analytics")
+                .param("category", "TRACK")
+                .param("installedFrom", "2010-01-01")
+                .param("groupBy", "installYear"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.assets").value(2))
+            .andExpect(jsonPath("$.groups[0].key").value("2012"))
+            .andExpect(jsonPath("$.groups[0].totalCost").value(30.00));
+    }
+
+    @Test
+    void analyticsRejectsUnknownGroupByAndInvertedRanges() throws Exception {
+        mockMvc.perform(get("/api/assets/analytics").param("groupBy", "colour"))
+            .andExpect(status().isBadRequest());
+
+        given(assetColumnStore.aggregate(any(), any()))
+            .willThrow(new IllegalArgumentException("installDate range starts after it ends"));
+        mockMvc.perform(get("/api/assets/analytics")
+                .param("installedFrom", "2020-01-01")
+                .param("installedTo", "2019-01-01"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -1,32 +1,68 @@
 package com.rail.asset.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.rail.asset.config.BinaryEncodingConfig;
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
+import com.rail.asset.service.AssetBulkService;
+import com.rail.asset.service.AssetChangeSet;
+import com.rail.asset.service.AssetExportService;
+import com.rail.asset.service.AssetSearchCriteria;
 import com.rail.asset.service.AssetService;
+import com.rail.asset.service.AssetSort;
+import com.rail.asset.service.AssetSortField;
+import com.rail.asset.service.AssetSyncService;
+import com.rail.asset.service.AssetVersionConflictException;
+import com.rail.asset.service.BulkImportResult;
+import com.rail.asset.service.BulkRowError;
+import com.rail.asset.service.BulkUpsertResult;
+import com.rail.asset.service.CursorPage;
+import com.rail.asset.service.ExportFormat;
+import com.rail.asset.service.SyncTokenExpiredException;
+import com.rail.asset.service.location.AssetLocationNode;
+import com.rail.asset.service.location.AssetLocationTree;
+import com.rail.asset.service.support.CsvFormatException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 
 @WebMvcTest(controllers = AssetController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import(BinaryEncodingConfig.class)
 class AssetControllerTest {
 
     @Autowired
@@ -38,6 +74,18 @@ class AssetControllerTest {
     @MockBean
     private AssetService assetService;
 
+    @MockBean
+    private AssetExportService assetExportService;
+
+    @MockBean
+    private AssetBulkService assetBulkService;
+
+    @MockBean
+    private AssetSyncService assetSyncService;
+
+    @MockBean
+    private AssetLocationTree assetLocationTree;
+
     @Test
     void createAssetReturns201() throws Exception {
         Asset asset = assetWithId(10L);
@@ -53,7 +101,7 @@ class AssetControllerTest {
 
     @Test
     void updateAssetNotFoundReturns404() throws Exception {
-        given(assetService.update(eq(50L), any(Asset.class))).willThrow(new RuntimeException("not found"));
+        given(assetService.update(eq(50L), any(Asset.class), isNull())).willThrow(new RuntimeException("not found"));
 
         mockMvc.perform(put("/api/assets/50")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -61,6 +109,87 @@ class AssetControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void getAssetByIdReturnsStrongETag() throws Exception {
+        Asset asset = assetWithId(12L);
+        asset.setVersion(3L);
+        given(assetService.findById(12L)).willReturn(asset);
+
+        mockMvc.perform(get("/api/assets/12"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"12.3\""));
+    }
+
+    @Test
+    void getAssetByCodeAnswersMatchingIfNoneMatchWithoutLoadingEntity() throws Exception {
+        given(assetService.findVersionByAssetCode("RAM-200")).willReturn(new AssetVersion(12L, 3L));
+
+        mockMvc.perform(get("/api/assets/code/RAM-200").header("If-None-Match", "W/\"12.3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"12.3\""))
+            .andExpect(content().string(""));
+        verify(assetService, never()).findByAssetCode(any());
+    }
+
+    @Test
+    void updateWithStaleIfMatchReturns412() throws Exception {
+        given(assetService.findVersion(12L)).willReturn(new AssetVersion(12L, 4L));
+
+        mockMvc.perform(put("/api/assets/12")
+                .header("If-Match", "\"12.3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(assetWithoutId())))
+            .andExpect(status().isPreconditionFailed());
+        verify(assetService, never()).update(any(), any(), any());
+    }
+
+    @Test
+    void updateWithCurrentIfMatchPassesVersionAndReturnsNewETag() throws Exception {
+        Asset updated = assetWithId(12L);
+        updated.setVersion(4L);
+        given(assetService.findVersion(12L)).willReturn(new AssetVersion(12L, 3L));
+        given(assetService.update(eq(12L), any(Asset.class), eq(3L))).willReturn(updated);
+
+        mockMvc.perform(put("/api/assets/12")
+                .header("If-Match", "\"12.3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(assetWithoutId())))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"12.4\""));
+    }
+
+    @Test
+    void concurrentUpdateWithoutIfMatchReturns409() throws Exception {
+        given(assetService.update(eq(12L), any(Asset.class), isNull()))
+            .willThrow(new AssetVersionConflictException(12L, 3L, 4L));
+
+        mockMvc.perform(put("/api/assets/12")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(assetWithoutId())))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void listChangesReturnsChangeSet() throws Exception {
+        given(assetSyncService.changesSince("tok", 50))
+            .willReturn(new AssetChangeSet(List.of(assetWithId(3L)), List.of(), "next", true));
+
+        mockMvc.perform(get("/api/assets/changes").param("since", "tok").param("limit", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.upserted[0].id").value(3))
+            .andExpect(jsonPath("$.deleted").isEmpty())
+            .andExpect(jsonPath("$.nextToken").value("next"))
+            .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void listChangesAnswersExpiredTokenWithGone() throws Exception {
+        given(assetSyncService.changesSince("old", null)).willThrow(new SyncTokenExpiredException("resync"));
+
+        mockMvc.perform(get("/api/assets/changes").param("since", "old"))
+            .andExpect(status().isGone());
+    }
+
     @Test
     void deleteAssetReturns204() throws Exception {
         mockMvc.perform(delete("/api/assets/5"))
@@ -69,10 +198,162 @@ class AssetControllerTest {
 
     @Test
     void listAssetsWithCategoryAndStatusDelegates() throws Exception {
+        given(assetService.findPageByCategoryAndStatus("TRACK", "ACTIVE", null, null))
+            .willReturn(new CursorPage<>(List.of(assetWithId(1L)), null));
+
         mockMvc.perform(get("/api/assets")
                 .param("category", "TRACK")
                 .param("status", "ACTIVE"))
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1))
+            .andExpect(header().doesNotExist(AssetController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void listAssetsNormalizesStatusAndLocationOnKeysetPaths() throws Exception {
+        given(assetService.findPageByCategoryAndStatus("TRACK", "ACTIVE", null, null))
+            .willReturn(new CursorPage<>(List.of(assetWithId(1L)), null));
+        given(assetService.findSummaryPageByLocation("LOC-1", null, null))
+            .willReturn(new CursorPage<>(
+                List.of(new AssetSummary(7L, "TRK-7", "Rail", "TRACK", "ACTIVE", "LOC-1")), null));
+
+        mockMvc.perform(get("/api/assets")
+                .param("category", "TRACK")
+                .param("status", "active"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(1));
+        mockMvc.perform(get("/api/assets")
+                .param("location", " loc-1 ")
+                .param("view", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].assetCode").value("TRK-7"));
+    }
+
+    @Test
+    void listAssetsExposesNextCursorHeader() throws Exception {
+        given(assetService.findPage("abc", 1))
+            .willReturn(new CursorPage<>(List.of(assetWithId(7L)), "next-token"));
+
+        mockMvc.perform(get("/api/assets")
+                .param("cursor", "abc")
+                .param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(AssetController.NEXT_CURSOR_HEADER, "next-token"))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    void listAssetsNegotiatesBinaryEncodingsWithJsonAsDefault() throws Exception {
+        given(assetService.findPage(null, null)).willReturn(new CursorPage<>(List.of(assetWithId(9L)), null));
+
+        byte[] cbor = mockMvc.perform(get("/api/assets").accept("application/cbor"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/cbor"))
+            .andReturn().getResponse().getContentAsByteArray();
+        JsonNode decoded = new CBORMapper().readTree(cbor);
+        assertThat(decoded.get(0).get("id").asLong()).isEqualTo(9L);
+        assertThat(decoded.get(0).get("installDate").asText()).isEqualTo("2021-01-01");
+
+        byte[] smile = mockMvc.perform(get("/api/assets").accept("application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-jackson-smile"))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(new SmileMapper().readTree(smile)).isEqualTo(decoded);
+
+        mockMvc.perform(get("/api/assets").accept(MediaType.ALL))
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$[0].installDate").value("2021-01-01"));
+    }
+
+    @Test
+    void listAssetsSummaryViewReturnsProjection() throws Exception {
+        given(assetService.findSummaryPageByLocation("LOC-1", null, null))
+            .willReturn(new CursorPage<>(
+                List.of(new AssetSummary(7L, "TRK-7", "Rail", "TRACK", "ACTIVE", "LOC-1")), null));
+
+        mockMvc.perform(get("/api/assets")
+                .param("location", "LOC-1")
+                .param("view", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].assetCode").value("TRK-7"))
+            .andExpect(jsonPath("$[0].notes").doesNotExist())
+            .andExpect(header().doesNotExist(AssetController.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void listAssetsRejectsUnknownView() throws Exception {
+        mockMvc.perform(get("/api/assets").param("view", "compact"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listAssetsRejectsMalformedCursor() throws Exception {
+        given(assetService.findPageByLocation("LOC-1", "bogus", null))
+            .willThrow(new IllegalArgumentException("Invalid cursor: bogus"));
+
+        mockMvc.perform(get("/api/assets")
+                .param("location", "LOC-1")
+                .param("cursor", "bogus"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listAssetsSearchesOtherFilterCombinations() throws Exception {
+        AssetSearchCriteria expected = new AssetSearchCriteria(null, "TRACK", null, null, null, null, null, null,
+            LocalDate.of(2020, 1, 1), null, null, null, null, null);
+        given(assetService.search(expected, new AssetSort(AssetSortField.INSTALL_DATE, true), null, 5))
+            .willReturn(new CursorPage<>(List.of(assetWithId(3L)), "next-token"));
+
+        mockMvc.perform(get("/api/assets")
+                .param("category", "TRACK")
+                .param("installedFrom", "2020-01-01")
+                .param("sort", "-installDate")
+                .param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(3))
+            .andExpect(header().string(AssetController.NEXT_CURSOR_HEADER, "next-token"));
+        verify(assetService, never()).findPage(any(), any());
+    }
+
+    @Test
+    void listAssetsRejectsUnindexedSort() throws Exception {
+        mockMvc.perform(get("/api/assets").param("sort", "notes"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listByLocationSubtreeReturnsSummariesWithCursor() throws Exception {
+        given(assetService.findSummaryPageByLocationSubtree("WCML-S12", null, 1))
+            .willReturn(new CursorPage<>(List.of(AssetSummary.of(assetWithId(4L))), "next-token"));
+
+        mockMvc.perform(get("/api/assets/by-location")
+                .param("subtree", "WCML-S12")
+                .param("limit", "1")
+                .param("view", "summary"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(4))
+            .andExpect(jsonPath("$[0].notes").doesNotExist())
+            .andExpect(header().string(AssetController.NEXT_CURSOR_HEADER, "next-token"));
+        verify(assetService, never()).findPageByLocationSubtree(any(), any(), any());
+
+        mockMvc.perform(get("/api/assets/by-location")
+                .param("subtree", "WCML-S12")
+                .param("prefix", "WCML"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void browseLocationsReturnsNodeWithChildrenOr404() throws Exception {
+        given(assetLocationTree.browse("WCML")).willReturn(Optional.of(new AssetLocationNode("WCML", 0, 3,
+            List.of(new AssetLocationNode("WCML-S12", 1, 3, List.of())))));
+        given(assetLocationTree.browse("NOPE")).willReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/assets/locations").param("path", "WCML"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.subtreeAssets").value(3))
+            .andExpect(jsonPath("$.children[0].path").value("WCML-S12"));
+        mockMvc.perform(get("/api/assets/locations").param("path", "NOPE"))
+            .andExpect(status().isNotFound());
     }
 
     @Test
@@ -83,6 +364,94 @@ class AssetControllerTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    void exportStreamsCsvAsAttachment() throws Exception {
+        given(assetExportService.export(same(ExportFormat.CSV), any(OutputStream.class))).willAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("id,assetCode\r\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        mockMvc.perform(get("/api/assets/export").param("format", "csv"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", containsString("text/csv")))
+            .andExpect(header().string("Content-Disposition", containsString("assets.csv")))
+            .andExpect(content().string("id,assetCode\r\n"));
+    }
+
+    @Test
+    void exportRejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/assets/export").param("format", "xml"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkImportAcceptsJsonArray() throws Exception {
+        given(assetBulkService.importAssets(any())).willReturn(
+            new BulkImportResult(2, 1, List.of(new BulkRowError(2, "RAM-200", "Asset code already exists"))));
+
+        mockMvc.perform(post("/api/assets/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(assetWithoutId(), assetWithoutId()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.errors[0].row").value(2));
+    }
+
+    @Test
+    void bulkImportAcceptsCsv() throws Exception {
+        given(assetBulkService.importCsv(any(Reader.class))).willReturn(new BulkImportResult(1, 1, List.of()));
+
+        mockMvc.perform(post("/api/assets/bulk")
+                .contentType("text/csv")
+                .content("assetCode,name,category,status\r\nRAM-1,Rail,TRACK,ACTIVE\r\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+    }
+
+    @Test
+    void bulkImportRejectsUnreadableCsvHeader() throws Exception {
+        given(assetBulkService.importCsv(any(Reader.class))).willThrow(new CsvFormatException("Unterminated quoted field"));
+
+        mockMvc.perform(post("/api/assets/bulk")
+                .contentType("text/csv")
+                .content("\"assetCode,name\r\n"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void bulkUpsertReportsCounts() throws Exception {
+        given(assetBulkService.upsertAssets(any())).willReturn(new BulkUpsertResult(3, 1, 1, 1, List.of()));
+
+        mockMvc.perform(put("/api/assets/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(assetWithoutId()))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.inserted").value(1))
+            .andExpect(jsonPath("$.updated").value(1))
+            .andExpect(jsonPath("$.unchanged").value(1));
+    }
+
+    @Test
+    void listDueWithinDefaultsToFourteenDays() throws Exception {
+        given(assetService.findDueWithin(14, "LOC-1", null, null, null))
+            .willReturn(new CursorPage<>(List.of(assetWithId(3L)), "due-next"));
+
+        mockMvc.perform(get("/api/assets/maintenance/due").param("location", "LOC-1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(AssetController.NEXT_CURSOR_HEADER, "due-next"))
+            .andExpect(jsonPath("$[0].id").value(3));
+    }
+
+    @Test
+    void listOverdueRejectsBadCursor() throws Exception {
+        given(assetService.findOverdue(null, null, "bad", null)).willThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/assets/maintenance/overdue").param("cursor", "bad"))
+            .andExpect(status().isBadRequest());
+    }
+
     private Asset assetWithoutId() {
         Asset asset = assetWithId(null);
         asset.setId(null);
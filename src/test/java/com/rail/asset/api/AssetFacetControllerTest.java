@@ -0,0 +1,42 @@
+package com.rail.asset.api;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.domain.AssetFacetCount;
+import com.rail.asset.service.facet.AssetFacetCounter;
+import com.rail.asset.service.facet.AssetFacets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AssetFacetController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AssetFacetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetFacetCounter assetFacetCounter;
+
+    @Test
+    void facetsReturnsCountsWithoutTouchingTheTable() throws Exception {
+        AssetFacets.FacetValue track = new AssetFacets.FacetValue("TRACK", 3);
+        given(assetFacetCounter.facets()).willReturn(new AssetFacets(3, List.of(track),
+            List.of(new AssetFacets.FacetValue("ACTIVE", 3)), List.of(new AssetFacets.FacetValue(null, 3)),
+            List.of(new AssetFacetCount("TRACK", "ACTIVE", null, 3))));
+
+        mockMvc.perform(get("/api/assets/facets"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.categories[0].value").value("TRACK"))
+            .andExpect(jsonPath("$.cells[0].count").value(3));
+    }
+}
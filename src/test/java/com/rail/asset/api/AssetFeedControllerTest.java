@@ -0,0 +1,53 @@
+package com.rail.asset.api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.service.feed.AssetChangeFeed;
+import com.rail.asset.service.feed.AssetFeedFilter;
+import com.rail.asset.service.feed.AssetFeedSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AssetFeedController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AssetFeedControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetChangeFeed assetChangeFeed;
+
+    @Test
+    void subscribeStartsAsyncStreamWithNormalizedFilter() throws Exception {
+        mockMvc.perform(get("/api/assets/feed")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .param("category", "TRACK")
+                .param("status", "active")
+                .param("location", "ldn-01"))
+            .andExpect(status().isOk())
+            .andExpect(request().asyncStarted());
+
+        verify(assetChangeFeed).subscribe(eq(new AssetFeedFilter("TRACK", "ACTIVE", "LDN-01")), any(AssetFeedSink.class));
+    }
+
+    @Test
+    void subscribeReturns503WhenFeedIsFull() throws Exception {
+        given(assetChangeFeed.subscribe(any(AssetFeedFilter.class), any(AssetFeedSink.class)))
+            .willThrow(new IllegalStateException("Asset feed is at its limit of 1 subscribers"));
+
+        mockMvc.perform(get("/api/assets/feed").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isServiceUnavailable());
+    }
+}
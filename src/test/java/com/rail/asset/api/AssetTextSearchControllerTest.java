@@ -0,0 +1,47 @@
+package com.rail.asset.api;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.service.text.AssetTextHit;
+import com.rail.asset.service.text.AssetTextIndex;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AssetTextSearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AssetTextSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetTextIndex assetTextIndex;
+
+    @Test
+    void searchClampsLimitAndReturnsRankedHits() throws Exception {
+        given(assetTextIndex.search("siemens point", AssetTextSearchController.MAX_LIMIT)).willReturn(
+            List.of(new AssetTextHit(4L, "PM-4", "Point machine", "SIGNAL", "ACTIVE", "LDN", 7.5)));
+
+        mockMvc.perform(get("/api/assets/search").param("q", "siemens point").param("limit", "5000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].assetCode").value("PM-4"))
+            .andExpect(jsonPath("$[0].score").value(7.5));
+    }
+
+    @Test
+    void searchRejectsQueriesWithoutTerms() throws Exception {
+        given(assetTextIndex.search("--", AssetTextSearchController.DEFAULT_LIMIT))
+            .willThrow(new IllegalArgumentException("Search query must contain letters or digits"));
+
+        mockMvc.perform(get("/api/assets/search").param("q", "--"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,47 @@
+package com.rail.asset.api;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.service.AssetValuationService;
+import com.rail.asset.service.PortfolioValuation;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = AssetValuationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class AssetValuationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AssetValuationService assetValuationService;
+
+    @Test
+    void valuationParsesAsOfDate() throws Exception {
+        LocalDate asOf = LocalDate.of(2025, 12, 31);
+        given(assetValuationService.valueAt(asOf)).willReturn(new PortfolioValuation(asOf, 1, 0,
+            new BigDecimal("100.00"), new BigDecimal("10.00"), new BigDecimal("90.00"), List.of(), List.of()));
+
+        mockMvc.perform(get("/api/assets/valuation").param("asOf", "2025-12-31"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.asOf").value("2025-12-31"))
+            .andExpect(jsonPath("$.bookValue").value(90.00));
+    }
+
+    @Test
+    void valuationRejectsMalformedDate() throws Exception {
+        mockMvc.perform(get("/api/assets/valuation").param("asOf", "31/12/2025"))
+            .andExpect(status().isBadRequest());
+    }
+}
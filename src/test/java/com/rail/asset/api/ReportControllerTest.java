@@ -0,0 +1,99 @@
+package com.rail.asset.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.rail.asset.service.ExportFormat;
+import com.rail.asset.service.report.ReportDownload;
+import com.rail.asset.service.report.ReportJobService;
+import com.rail.asset.service.report.ReportJobStatus;
+import com.rail.asset.service.report.ReportRequest;
+import com.rail.asset.service.report.ReportState;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = ReportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReportJobService reportJobService;
+
+    @Test
+    void submitAcceptsTheJobAndPointsAtItsStatus() throws Exception {
+        given(reportJobService.submit(new ReportRequest("register", "csv", null)))
+            .willReturn(jobStatus("r-1", ReportState.QUEUED));
+
+        mockMvc.perform(post("/api/reports")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"register\",\"format\":\"csv\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "http://localhost/api/reports/r-1"))
+            .andExpect(jsonPath("$.state").value("QUEUED"));
+
+        given(reportJobService.submit(any())).willThrow(new IllegalStateException("Report queue is full"));
+        mockMvc.perform(post("/api/reports").contentType(MediaType.APPLICATION_JSON).content("{\"type\":\"register\"}"))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void downloadPassesGzipThroughOrDecompresses(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("r-2.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+            out.write("id,assetCode\n1,RPT-1\n".getBytes(StandardCharsets.UTF_8));
+        }
+        given(reportJobService.download("r-2"))
+            .willReturn(Optional.of(new ReportDownload(file, ExportFormat.CSV, "register-2026-01-01.csv")));
+
+        byte[] gzipped = mockMvc.perform(get("/api/reports/r-2/download").header("Accept-Encoding", "br, gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Encoding", "gzip"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"register-2026-01-01.csv\""))
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(gzipped).isEqualTo(Files.readAllBytes(file));
+
+        mockMvc.perform(get("/api/reports/r-2/download").header("Accept-Encoding", "gzip;q=0"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Content-Encoding"))
+            .andExpect(content().string("id,assetCode\n1,RPT-1\n"));
+    }
+
+    @Test
+    void unknownAndUnfinishedReportsAreNotDownloadable() throws Exception {
+        given(reportJobService.status("gone")).willReturn(Optional.empty());
+        given(reportJobService.download("gone")).willReturn(Optional.empty());
+        given(reportJobService.download("busy")).willThrow(new IllegalStateException("Report busy is running"));
+
+        mockMvc.perform(get("/api/reports/gone")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/reports/gone/download")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/reports/busy/download")).andExpect(status().isConflict());
+    }
+
+    private static ReportJobStatus jobStatus(String id, ReportState state) {
+        return new ReportJobStatus(id, "register", "csv", null, state, 0, 10, Instant.parse("2026-01-01T00:00:00Z"),
+            null, null, null, null, null);
+    }
+}
@@ -0,0 +1,143 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.security.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class BulkheadFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BulkheadFilter filter = new BulkheadFilter(Map.of(
+        EndpointClass.BULK, Map.of(UserRole.VIEWER, 1, UserRole.MANAGER, 1),
+        EndpointClass.LOOKUP, Map.of(UserRole.VIEWER, 1)
+    ), Duration.ofSeconds(2), registry);
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void classifiesRequestsByMethodAndPath() {
+        assertThat(EndpointClass.of("GET", "/api/assets/42")).isEqualTo(EndpointClass.LOOKUP);
+        assertThat(EndpointClass.of("GET", "/api/assets/code/SIG-001")).isEqualTo(EndpointClass.LOOKUP);
+        assertThat(EndpointClass.of("GET", "/api/assets/search")).isEqualTo(EndpointClass.LOOKUP);
+        assertThat(EndpointClass.of("GET", "/api/reports/abc")).isEqualTo(EndpointClass.LOOKUP);
+        assertThat(EndpointClass.of("GET", "/api/assets")).isEqualTo(EndpointClass.LIST);
+        assertThat(EndpointClass.of("GET", "/api/assets/changes")).isEqualTo(EndpointClass.LIST);
+        assertThat(EndpointClass.of("PUT", "/api/assets/42")).isEqualTo(EndpointClass.WRITE);
+        assertThat(EndpointClass.of("POST", "/api/reports")).isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of("GET", "/api/assets/export")).isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of("POST", "/api/assets/bulk")).isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of("GET", "/api/reports/abc/download")).isEqualTo(EndpointClass.BULK);
+        assertThat(EndpointClass.of("GET", "/api/assets/feed")).isNull();
+    }
+
+    @Test
+    void rejectsWhenRoleBudgetIsFullWithoutTouchingOtherBulkheads() throws Exception {
+        authenticateAs(UserRole.VIEWER);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockHttpServletResponse lookup = new MockHttpServletResponse();
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), outer, (request, response) -> {
+            assertThat(filter.inFlight(EndpointClass.BULK, UserRole.VIEWER)).isEqualTo(1);
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), rejected, new MockFilterChain());
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/7"), lookup, new MockFilterChain());
+        });
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(lookup.getStatus()).isEqualTo(200);
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(registry.get("rail.bulkhead.rejected").tags("endpoint", "bulk", "role", "viewer").counter().count())
+            .isEqualTo(1);
+        assertThat(filter.inFlight(EndpointClass.BULK, UserRole.VIEWER)).isZero();
+    }
+
+    @Test
+    void classifiesTheDecodedPath() throws Exception {
+        authenticateAs(UserRole.VIEWER);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(
+                new MockHttpServletRequest("GET", "/api/assets/%65xport"), rejected, new MockFilterChain()));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void viewerReportSubmissionsShareTheBulkBudget() throws Exception {
+        authenticateAs(UserRole.VIEWER);
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/reports"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(
+                new MockHttpServletRequest("POST", "/api/reports"), rejected, new MockFilterChain()));
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(registry.get("rail.bulkhead.rejected").tags("endpoint", "bulk", "role", "viewer").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void rolesHaveSeparateBudgets() throws Exception {
+        authenticateAs(UserRole.VIEWER);
+        MockHttpServletResponse manager = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), new MockHttpServletResponse(),
+            (request, response) -> {
+                authenticateAs(UserRole.MANAGER, UserRole.VIEWER);
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), manager, new MockFilterChain());
+            });
+
+        assertThat(manager.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void passesThroughWithoutConfiguredBudget() throws Exception {
+        MockHttpServletResponse anonymous = new MockHttpServletResponse();
+        MockHttpServletResponse list = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"), anonymous, new MockFilterChain());
+        authenticateAs(UserRole.VIEWER);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets"), list, new MockFilterChain());
+
+        assertThat(anonymous.getStatus()).isEqualTo(200);
+        assertThat(list.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() {
+        authenticateAs(UserRole.VIEWER);
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/export"),
+            new MockHttpServletResponse(), (request, response) -> {
+                throw new IllegalStateException("boom");
+            }))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(filter.inFlight(EndpointClass.BULK, UserRole.VIEWER)).isZero();
+    }
+
+    private static void authenticateAs(UserRole... roles) {
+        String[] authorities = new String[roles.length];
+        for (int i = 0; i < roles.length; i++) {
+            authorities[i] = roles[i].asAuthority();
+        }
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("user", "n/a", authorities));
+    }
+}
@@ -0,0 +1,45 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(1, Duration.ZERO, registry);
+
+    @Test
+    void rejectsRequestsBeyondLimitWithRetryAfter() throws Exception {
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets"), outer, (request, response) -> {
+            assertThat(filter.inFlight()).isEqualTo(1);
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/assets"), inner, new MockFilterChain());
+        });
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(inner.getStatus()).isEqualTo(503);
+        assertThat(inner.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(registry.get("rail.concurrency.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() throws Exception {
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/assets"),
+            new MockHttpServletResponse(), (request, response) -> {
+                throw new IllegalStateException("boom");
+            }))
+            .isInstanceOf(IllegalStateException.class);
+
+        assertThat(filter.inFlight()).isZero();
+    }
+}
@@ -0,0 +1,179 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// Two unrelated H2 databases: nothing replicates, so a row written through the service is only
+// readable if the read was routed to the primary.
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "rail.datasource.replica-urls=" + ReplicaRoutingTest.REPLICA_URL,
+    "rail.datasource.replica-lag-tolerance=PT0.2S",
+    "rail.datasource.replica-check-interval=PT1H",
+    "rail.datasource.read-your-writes-window=PT1M"
+})
+class ReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        assetRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        replica.execute("DROP ALL OBJECTS");
+        primary.queryForList("SCRIPT NODATA", String.class).stream()
+            .filter(statement -> !statement.startsWith("CREATE USER"))
+            .forEach(replica::execute);
+
+        monitor.check();
+        replicateHeartbeat();
+        monitor.check();
+        assertThat(routing.isHealthy("replica-0")).isTrue();
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaWhileWritersReadTheirOwnWrites() {
+        double stickyBefore = reads("sticky");
+        signIn("alice");
+        Asset created = assetService.create(asset("RR-1"));
+
+        signIn("bob");
+        assertThatThrownBy(() -> assetService.findVersionByAssetCode("RR-1"))
+            .hasMessageContaining("Asset not found");
+
+        signIn("alice");
+        assertThat(assetService.findVersionByAssetCode("RR-1").id()).isEqualTo(created.getId());
+        assertThat(reads("sticky")).isEqualTo(stickyBefore + 1);
+    }
+
+    @Test
+    void replicaBeyondLagToleranceIsTakenOutOfRotation() throws InterruptedException {
+        signIn("carol");
+        assetService.create(asset("RR-2"));
+        signIn("dave");
+        assertThatThrownBy(() -> assetService.findVersionByAssetCode("RR-2"))
+            .hasMessageContaining("Asset not found");
+
+        // The replica stops applying heartbeats while the primary keeps stamping new ones.
+        Thread.sleep(300);
+        monitor.check();
+
+        assertThat(monitor.lagOf("replica-0")).isGreaterThan(Duration.ofMillis(200));
+        assertThat(routing.isHealthy("replica-0")).isFalse();
+        assertThat(assetService.findVersionByAssetCode("RR-2").id()).isNotNull();
+    }
+
+    @Test
+    void cachedLookupsLoadFromPrimarySoWritersNeverGetAStaleCachedRow() {
+        signIn("erin");
+        Asset created = assetService.create(asset("RR-3"));
+        replicateAssets();
+        Asset change = asset("RR-3");
+        change.setName("Renamed");
+        assetService.update(created.getId(), change);
+
+        // Another user fills the shared cache while the replica still holds version 0.
+        signIn("frank");
+        assertThat(assetService.findVersion(created.getId()).version()).isZero();
+        double pinnedBefore = reads("pinned");
+        assertThat(assetService.findById(created.getId()).getVersion()).isEqualTo(1L);
+        assertThat(assetService.findByAssetCode("RR-3").getName()).isEqualTo("Renamed");
+        assertThat(reads("pinned")).isEqualTo(pinnedBefore + 2);
+
+        signIn("erin");
+        assertThat(assetService.findById(created.getId()).getVersion()).isEqualTo(1L);
+        assertThat(assetService.findByAssetCode("RR-3").getName()).isEqualTo("Renamed");
+    }
+
+    private void replicateAssets() {
+        primary.queryForList("SCRIPT NOSETTINGS TABLE assets", String.class).stream()
+            .filter(statement -> statement.startsWith("INSERT"))
+            .forEach(replica::execute);
+    }
+
+    private void replicateHeartbeat() {
+        List<Timestamp> beats = primary.queryForList("SELECT beat_at FROM replication_heartbeat WHERE id = 1",
+            Timestamp.class);
+        replica.update("DELETE FROM replication_heartbeat");
+        replica.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beats.get(0));
+    }
+
+    private double reads(String route) {
+        return meterRegistry.get("rail.datasource.reads").tag("route", route).counter().count();
+    }
+
+    private static void signIn(String username) {
+        SecurityContextHolder.getContext()
+            .setAuthentication(new TestingAuthenticationToken(username, "secret", "ROLE_USER"));
+    }
+
+    private static Asset asset(String code) {
+        return new Asset(
+            null,
+            code,
+            "Routed " + code,
+            "TRACK",
+            null,
+            "Acme",
+            "MDL",
+            null,
+            LocalDate.of(2020, 1, 1),
+            "ACTIVE",
+            "LOC-RR",
+            30,
+            LocalDate.of(2024, 1, 1),
+            new BigDecimal("1.00"),
+            new BigDecimal("100.00"),
+            null
+        );
+    }
+}
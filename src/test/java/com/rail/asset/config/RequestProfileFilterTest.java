@@ -0,0 +1,82 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.metrics.StatementAccountingListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RequestProfileFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final StatementAccountingListener listener = new StatementAccountingListener();
+
+    @Test
+    void addsServerTimingAheadOfBodyAndCountsStatements() throws Exception {
+        RequestProfileFilter filter = new RequestProfileFilter(true, Duration.ofMinutes(1), 20, 3, registry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets/1"), response, (request, servletResponse) -> {
+            execute("select * from assets where id=?");
+            execute("select * from assets where asset_code=?");
+            servletResponse.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(response.getHeader(RequestProfileFilter.SERVER_TIMING))
+            .contains("auth;dur=", "db;dur=", "desc=\"2 statements\"", "service;dur=", "serialization;dur=", "total;dur=");
+        assertThat(registry.get("rail.request.statements").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void bodiesLargerThanTheBufferStillGetTheHeader() throws Exception {
+        RequestProfileFilter filter = new RequestProfileFilter(true, Duration.ofMinutes(1), 20, 3, registry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = new byte[response.getBufferSize() * 3];
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/assets"), response,
+            (request, servletResponse) -> servletResponse.getOutputStream().write(body));
+
+        assertThat(response.getContentAsByteArray()).hasSize(body.length);
+        assertThat(response.getHeader(RequestProfileFilter.SERVER_TIMING)).contains("desc=\"0 statements\"");
+    }
+
+    @Test
+    void logsRequestsOverTheStatementBudget(CapturedOutput output) throws Exception {
+        RequestProfileFilter filter = new RequestProfileFilter(false, Duration.ofMinutes(1), 1, 1, registry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/assets/1"), response, (request, servletResponse) -> {
+            execute("select * from assets where id=?");
+            execute("update assets set name=? where id=?");
+        });
+
+        assertThat(response.getHeader(RequestProfileFilter.SERVER_TIMING)).isNull();
+        assertThat(output).contains("Slow request PUT /api/assets/1 -> 200", "2 statements", "slowest:");
+    }
+
+    @Test
+    void ignoresStatementsOutsideRequests() {
+        execute("select 1");
+
+        assertThat(registry.find("rail.request.statements").summary()).isNull();
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo execution = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(execution, queries);
+        listener.afterQuery(execution, queries);
+    }
+}
@@ -0,0 +1,61 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RequestProfileTest {
+
+    private static final String VIEWER = "Basic "
+        + Base64.getEncoder().encodeToString("viewer:viewerPass!".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void seed() {
+        assetRepository.deleteAll();
+        assetRepository.save(new Asset(null, "PRF-1", "Profiled", "TRACK", null, "Acme", null, null,
+            null, "ACTIVE", "LOC-1", null, null, null, null, null));
+    }
+
+    @Test
+    void responsesCarryServerTimingAndKeepTheirLength() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/assets?limit=5&location=LOC-1"))
+            .header("Authorization", VIEWER)
+            .build(), HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).contains("PRF-1");
+        assertThat(response.headers().firstValue("Content-Length")).isPresent();
+        assertThat(response.headers().firstValue("Server-Timing")).hasValueSatisfying(timing -> assertThat(timing)
+            .containsPattern("auth;dur=[0-9.]+")
+            .containsPattern("db;dur=[0-9.]+;desc=\"[1-9][0-9]* statements\"")
+            .contains("service;dur=", "serialization;dur=", "total;dur="));
+        assertThat(meterRegistry.get("rail.request.statements").tag("uri", "/api/assets").summary().count())
+            .isPositive();
+    }
+}
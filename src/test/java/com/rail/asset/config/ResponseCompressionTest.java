@@ -0,0 +1,105 @@
+package com.rail.asset.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ResponseCompressionTest {
+
+    private static final String VIEWER = "Basic "
+        + Base64.getEncoder().encodeToString("viewer:viewerPass!".getBytes(StandardCharsets.UTF_8));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void seed() {
+        assetRepository.deleteAll();
+        for (int i = 0; i < 40; i++) {
+            assetRepository.save(new Asset(null, "GZ-" + i, "Compressed " + i, "TRACK", null, "Acme", "MDL-" + i,
+                "SN-" + i, null, "ACTIVE", "LDN-" + i, null, null, null, new BigDecimal("125.50"), null));
+        }
+    }
+
+    @Test
+    void largeListsAreGzippedForClientsThatAcceptIt() throws Exception {
+        HttpResponse<byte[]> json = get("/api/assets?limit=40", "application/json", "gzip, deflate");
+        assertThat(json.headers().firstValue("Content-Encoding")).contains("gzip");
+        assertThat(new String(gunzip(json.body()), StandardCharsets.UTF_8)).startsWith("[{").contains("\"GZ-39\"");
+
+        HttpResponse<byte[]> cbor = get("/api/assets?limit=40", "application/cbor", "gzip");
+        assertThat(cbor.headers().firstValue("Content-Encoding")).contains("gzip");
+        JsonNode decoded = new CBORMapper().readTree(gunzip(cbor.body()));
+        assertThat(decoded.size()).isEqualTo(40);
+
+        HttpResponse<byte[]> plain = get("/api/assets?limit=40", "application/json", null);
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    void smallResponsesAreSentAsIs() throws Exception {
+        HttpResponse<byte[]> response = get("/api/assets?limit=1&view=summary", "application/json", "gzip");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    void feedStillCommitsHeadersImmediatelyAndIsNotCompressed() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/assets/feed"))
+            .header("Authorization", VIEWER)
+            .header("Accept", "text/event-stream")
+            .header("Accept-Encoding", "gzip")
+            .build();
+
+        HttpResponse<InputStream> response = client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+            .get(5, TimeUnit.SECONDS);
+        response.body().close();
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String acceptEncoding)
+        throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header("Authorization", VIEWER)
+            .header("Accept", accept);
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
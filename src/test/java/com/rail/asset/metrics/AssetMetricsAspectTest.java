@@ -0,0 +1,46 @@
+package com.rail.asset.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.AssetService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetMetricsAspectTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCallsAreTimedByOperationAndOutcome() {
+        assetService.create(new Asset(null, "MET-001", "Metered", "TRACK", null, null, null, null,
+            null, "ACTIVE", "LOC-1", null, null, null, null, null));
+        assertThatThrownBy(() -> assetService.findById(-1L)).isInstanceOf(RuntimeException.class);
+
+        assertThat(meterRegistry.get(AssetMetricsAspect.SERVICE_TIMER)
+            .tag("operation", "create")
+            .tag("outcome", "SUCCESS")
+            .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(AssetMetricsAspect.SERVICE_TIMER)
+            .tag("operation", "findById")
+            .tag("outcome", "ERROR")
+            .tag("exception", "RuntimeException")
+            .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void persistenceMetricsAreRegistered() {
+        assertThat(meterRegistry.find("hikaricp.connections.active").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.query.executions").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.entities.loads").functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.flushes").functionCounter()).isNotNull();
+    }
+}
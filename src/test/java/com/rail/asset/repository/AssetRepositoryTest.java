@@ -4,12 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.rail.asset.config.AuditingConfig;
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.context.annotation.Import;
 
 @DataJpaTest
@@ -49,6 +53,79 @@ class AssetRepositoryTest {
             .containsExactly("REP-200");
     }
 
+    @Test
+    void keysetQueriesResumeAfterLastSeenId() {
+        Asset first = persistAsset("REP-300", "TRACK", "ACTIVE", "DEP-3");
+        Asset second = persistAsset("REP-301", "TRACK", "ACTIVE", "DEP-3");
+        Asset third = persistAsset("REP-302", "TRACK", "ACTIVE", "DEP-3");
+
+        List<Asset> page = assetRepository.findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(
+            "TRACK", "ACTIVE", first.getId(), Limit.of(1));
+
+        assertThat(page).containsExactly(second);
+        assertThat(assetRepository.findByLocationCodeAndIdGreaterThanOrderByIdAsc("DEP-3", second.getId(), Limit.of(5)))
+            .containsExactly(third);
+    }
+
+    @Test
+    void summaryProjectionCarriesListColumnsOnly() {
+        Asset first = persistAsset("REP-310", "SIGNAL", "ACTIVE", "DEP-31");
+        Asset second = persistAsset("REP-311", "SIGNAL", "ACTIVE", "DEP-31");
+
+        List<AssetSummary> page = assetRepository.findByLocationCodeAndIdGreaterThanOrderByIdAsc(
+            "DEP-31", first.getId(), Limit.of(5), AssetSummary.class);
+
+        assertThat(page).containsExactly(new AssetSummary(
+            second.getId(), "REP-311", second.getName(), "SIGNAL", "ACTIVE", "DEP-31"));
+    }
+
+    @Test
+    void versionStartsAtZeroAndAdvancesOnEachUpdate() {
+        Asset asset = persistAsset("REP-320", "TRACK", "ACTIVE", "DEP-32");
+        assetRepository.flush();
+        assertThat(assetRepository.findVersionById(asset.getId())).contains(new AssetVersion(asset.getId(), 0L));
+
+        asset.setName("Renamed");
+        assetRepository.saveAndFlush(asset);
+
+        assertThat(assetRepository.findVersionByAssetCode("REP-320")).contains(new AssetVersion(asset.getId(), 1L));
+    }
+
+    @Test
+    void streamAllReturnsRowsInIdOrder() {
+        persistAsset("REP-400", "TRACK", "ACTIVE", "DEP-4");
+        persistAsset("REP-401", "TRACK", "ACTIVE", "DEP-4");
+
+        try (Stream<Asset> assets = assetRepository.streamAll(100)) {
+            assertThat(assets.map(Asset::getAssetCode)).containsExactly("REP-400", "REP-401");
+        }
+    }
+
+    @Test
+    void nextInspectionDueIsMaintainedAndRangeQueriable() {
+        Asset early = persistAsset("REP-500", "TRACK", "ACTIVE", "DEP-5");
+        Asset late = persistAsset("REP-501", "TRACK", "ACTIVE", "DEP-5");
+        persistAsset("REP-502", "TRACK", "ACTIVE", "DEP-6");
+        late.setLastInspectionDate(LocalDate.of(2024, 3, 1));
+        assetRepository.saveAndFlush(late);
+
+        assertThat(early.getNextInspectionDue()).isEqualTo(LocalDate.of(2024, 1, 31));
+        assertThat(late.getNextInspectionDue()).isEqualTo(LocalDate.of(2024, 3, 31));
+
+        List<Asset> firstPage = assetRepository.findInspectionDue(
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "DEP-5", "TRACK", null, 0L, 1);
+        List<Asset> secondPage = assetRepository.findInspectionDue(
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), "DEP-5", "TRACK",
+            early.getNextInspectionDue(), early.getId(), 5);
+
+        assertThat(firstPage).containsExactly(early);
+        assertThat(secondPage).containsExactly(late);
+        assertThat(assetRepository.findInspectionDue(null, LocalDate.of(2024, 2, 1), null, null, null, 0L, 10))
+            .extracting(Asset::getAssetCode)
+            .contains("REP-500", "REP-502")
+            .doesNotContain("REP-501");
+    }
+
     private Asset persistAsset(String code, String category, String status, String location) {
         Asset asset = new Asset(
             null,
@@ -0,0 +1,95 @@
+package com.rail.asset.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+class CachingAuthenticationProviderTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(encoder);
+        dao.setUserDetailsService(new InMemoryUserDetailsManager(User.withUsername("viewer")
+            .password(encoder.encode("viewerPass!"))
+            .roles(UserRole.VIEWER.name())
+            .build()));
+        AuthenticationProvider counting = new AuthenticationProvider() {
+            @Override
+            public Authentication authenticate(Authentication authentication) {
+                verifications.incrementAndGet();
+                return dao.authenticate(authentication);
+            }
+
+            @Override
+            public boolean supports(Class<?> authentication) {
+                return dao.supports(authentication);
+            }
+        };
+        provider = new CachingAuthenticationProvider(counting, Duration.ofMinutes(1), 100);
+    }
+
+    @Test
+    void repeatedValidCredentialsSkipVerification() {
+        Authentication first = provider.authenticate(request("viewer", "viewerPass!"));
+        Authentication second = provider.authenticate(request("viewer", "viewerPass!"));
+
+        assertThat(verifications).hasValue(1);
+        assertThat(second.isAuthenticated()).isTrue();
+        assertThat(second.getName()).isEqualTo("viewer");
+        assertThat(second.getCredentials()).isNull();
+        assertThat(second.getAuthorities()).extracting(Object::toString).containsExactly(UserRole.VIEWER.asAuthority());
+        assertThat(second).isNotSameAs(first);
+        assertThat(provider.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void wrongPasswordIsNeverServedFromCache() {
+        provider.authenticate(request("viewer", "viewerPass!"));
+
+        assertThatThrownBy(() -> provider.authenticate(request("viewer", "wrong")))
+            .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(request("viewer", "wrong")))
+            .isInstanceOf(BadCredentialsException.class);
+        assertThat(verifications).hasValue(3);
+    }
+
+    @Test
+    void boundRegistryTimesAuthenticationsByResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        provider.bindTo(registry);
+
+        provider.authenticate(request("viewer", "viewerPass!"));
+        provider.authenticate(request("viewer", "viewerPass!"));
+        assertThatThrownBy(() -> provider.authenticate(request("viewer", "wrong")))
+            .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(registry.get("rail.security.authentication").tag("result", "verified").timer().count()).isEqualTo(1);
+        assertThat(registry.get("rail.security.authentication").tag("result", "cached").timer().count()).isEqualTo(1);
+        assertThat(registry.get("rail.security.authentication").tag("result", "rejected").timer().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("cache", "authentication").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    private static UsernamePasswordAuthenticationToken request(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
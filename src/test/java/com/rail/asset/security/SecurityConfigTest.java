@@ -84,6 +84,30 @@ class SecurityConfigTest {
         assertThat(assetRepository.findByAssetCode("SEC-DENY")).isEmpty();
     }
 
+    @Test
+    void onlyAdminCanReadCacheStatistics() {
+        ResponseEntity<String> viewer = viewerClient().getForEntity(baseUrl("/api/admin/caches"), String.class);
+        ResponseEntity<String> admin = restTemplate.withBasicAuth("admin", "adminPass!")
+            .getForEntity(baseUrl("/api/admin/caches"), String.class);
+
+        assertThat(viewer.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(admin.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(admin.getBody()).contains("assetsByCode");
+    }
+
+    @Test
+    void healthIsOpenButMetricsRequireAdmin() {
+        ResponseEntity<String> health = restTemplate.getForEntity(baseUrl("/actuator/health"), String.class);
+        ResponseEntity<String> viewer = viewerClient().getForEntity(baseUrl("/actuator/metrics"), String.class);
+        ResponseEntity<String> admin = restTemplate.withBasicAuth("admin", "adminPass!")
+            .getForEntity(baseUrl("/actuator/metrics"), String.class);
+
+        assertThat(health.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(viewer.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(admin.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(admin.getBody()).contains("hikaricp.connections", "hibernate.query.executions");
+    }
+
     private Asset sampleAsset(String code) {
         return new Asset(
             null,
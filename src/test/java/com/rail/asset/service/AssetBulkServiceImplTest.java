@@ -0,0 +1,191 @@
+package com.rail.asset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetBulkServiceImplTest {
+
+    @Autowired
+    private AssetBulkService assetBulkService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+    }
+
+    @Test
+    void importAssetsInsertsNormalizedRowsWithAuditColumns() {
+        Instant before = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        BulkImportResult result = assetBulkService.importAssets(List.of(asset(" blk-1 ", "Rail"), asset("blk-2", "Sleeper")));
+
+        assertThat(result.received()).isEqualTo(2);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).isEmpty();
+        Asset stored = assetRepository.findByAssetCode("BLK-1").orElseThrow();
+        assertThat(stored.getLocationCode()).isEqualTo("LOC-9");
+        assertThat(stored.getCreatedBy()).isEqualTo("system");
+        assertThat(stored.getCreatedAt()).isAfterOrEqualTo(before).isBefore(before.plusSeconds(60));
+        assertThat(stored.getAcquisitionCost()).isEqualByComparingTo("1200.00");
+        assertThat(stored.getNextInspectionDue()).isEqualTo(LocalDate.of(2024, 1, 31));
+    }
+
+    @Test
+    void importAssetsReportsRowErrorsWithoutAbortingTheLoad() {
+        assetRepository.save(asset("BLK-10", "Existing"));
+
+        BulkImportResult result = assetBulkService.importAssets(List.of(
+            asset("BLK-10", "Clashes with database"),
+            asset("BLK-11", "Fine"),
+            asset("blk-11", "Clashes within upload"),
+            asset("BLK-12", null),
+            asset("BLK-13", "x".repeat(500))
+        ));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors())
+            .extracting(BulkRowError::row)
+            .containsExactlyInAnyOrder(1L, 3L, 4L, 5L);
+        assertThat(assetRepository.findByAssetCode("BLK-11")).isPresent();
+        assertThat(assetRepository.findByAssetCode("BLK-13")).isEmpty();
+    }
+
+    @Test
+    void importCsvParsesQuotedFieldsAndFlagsMalformedRows() {
+        String csv = """
+            id,assetCode,name,category,status,installDate,acquisitionCost,notes
+            ,CSV-1,"Point machine, north",SIGNALING,active,2021-03-04,99.50,"said ""ok""
+            over two lines"
+            ,CSV-2,Bad date,SIGNALING,ACTIVE,2021-13-40,,
+            """;
+
+        BulkImportResult result = assetBulkService.importCsv(new StringReader(csv));
+
+        assertThat(result.received()).isEqualTo(2);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().extracting(BulkRowError::row).isEqualTo(2L);
+        Asset stored = assetRepository.findByAssetCode("CSV-1").orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Point machine, north");
+        assertThat(stored.getStatus()).isEqualTo("ACTIVE");
+        assertThat(stored.getInstallDate()).isEqualTo(LocalDate.of(2021, 3, 4));
+        assertThat(stored.getNotes()).isEqualTo("said \"ok\"\nover two lines");
+    }
+
+    @Test
+    void importCsvStopsAtUnparseableRecordAndReportsRowsAlreadyWritten() {
+        String csv = """
+            assetCode,name,category,status
+            CSV-10,First,TRACK,ACTIVE
+            CSV-11,Second,TRACK,ACTIVE
+            CSV-12,"Never closed,TRACK,ACTIVE
+            CSV-13,Swallowed,TRACK,ACTIVE
+            """;
+
+        BulkImportResult result = assetBulkService.importCsv(new StringReader(csv));
+
+        assertThat(result.received()).isEqualTo(3);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(3L);
+            assertThat(error.message()).contains("Unterminated quoted field");
+        });
+        assertThat(assetRepository.findByAssetCode("CSV-11")).isPresent();
+    }
+
+    @Test
+    void nullElementsAreRejectedAsEmptyRows() {
+        List<Asset> assets = new ArrayList<>();
+        assets.add(asset("NUL-1", "Fine"));
+        assets.add(null);
+
+        BulkImportResult imported = assetBulkService.importAssets(assets);
+        BulkUpsertResult upserted = assetBulkService.upsertAssets(assets);
+
+        assertThat(imported.imported()).isEqualTo(1);
+        assertThat(imported.errors()).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(2L);
+            assertThat(error.message()).isEqualTo("row is empty");
+        });
+        assertThat(upserted.unchanged()).isEqualTo(1);
+        assertThat(upserted.errors()).singleElement().extracting(BulkRowError::message).isEqualTo("row is empty");
+    }
+
+    @Test
+    void upsertAssetsClassifiesInsertedUpdatedAndUnchangedRows() {
+        assetBulkService.importAssets(List.of(asset("UPS-1", "Unchanged"), asset("UPS-2", "Before")));
+        Asset original = assetRepository.findByAssetCode("UPS-2").orElseThrow();
+
+        Asset changed = asset("ups-2", "After");
+        changed.setAcquisitionCost(new BigDecimal("1300.00"));
+        Asset sameButRescaled = asset("UPS-1", "Unchanged");
+        sameButRescaled.setAcquisitionCost(new BigDecimal("1200"));
+        BulkUpsertResult result = assetBulkService.upsertAssets(List.of(sameButRescaled, changed, asset("UPS-3", "New")));
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(result.errors()).isEmpty();
+        Asset updated = assetRepository.findByAssetCode("UPS-2").orElseThrow();
+        assertThat(updated.getId()).isEqualTo(original.getId());
+        assertThat(updated.getName()).isEqualTo("After");
+        assertThat(updated.getAcquisitionCost()).isEqualByComparingTo("1300.00");
+        assertThat(updated.getCreatedAt()).isEqualTo(original.getCreatedAt());
+        assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(original.getUpdatedAt());
+        assertThat(original.getVersion()).isZero();
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(assetRepository.findByAssetCode("UPS-3")).isPresent();
+    }
+
+    @Test
+    void upsertCsvReportsRowsRejectedByTheDatabase() {
+        String csv = """
+            assetCode,name,category,status
+            UPS-10,Fine,TRACK,ACTIVE
+            UPS-11,%s,TRACK,ACTIVE
+            """.formatted("y".repeat(300));
+
+        BulkUpsertResult result = assetBulkService.upsertCsv(new StringReader(csv));
+
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().extracting(BulkRowError::assetCode).isEqualTo("UPS-11");
+    }
+
+    private Asset asset(String code, String name) {
+        return new Asset(
+            null,
+            code,
+            name,
+            "TRACK",
+            null,
+            "Acme",
+            "MDL",
+            null,
+            LocalDate.of(2020, 1, 1),
+            "active",
+            "loc-9",
+            30,
+            LocalDate.of(2024, 1, 1),
+            new BigDecimal("1.00"),
+            new BigDecimal("1200.00"),
+            null
+        );
+    }
+}
@@ -0,0 +1,104 @@
+package com.rail.asset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.impl.AssetExportServiceImpl;
+import jakarta.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AssetExportServiceImplTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private AssetExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        JsonMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        exportService = new AssetExportServiceImpl(assetRepository, entityManager, objectMapper, 250);
+    }
+
+    @Test
+    void ndjsonWritesOneDocumentPerLineAndDetachesRows() throws Exception {
+        Asset first = sampleAsset(1L, "EXP-1", "plain");
+        Asset second = sampleAsset(2L, "EXP-2", "plain");
+        when(assetRepository.streamAll(250)).thenReturn(Stream.of(first, second));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = exportService.export(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"installDate\":\"2020-01-01\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+        assertThat(lines[2]).isEmpty();
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    void csvQuotesFieldsContainingDelimiters() throws Exception {
+        when(assetRepository.streamAll(250)).thenReturn(Stream.of(sampleAsset(3L, "EXP-3", "left, \"right\"")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines[0]).startsWith("id,assetCode,name,category");
+        assertThat(lines[1]).startsWith("3,EXP-3,Exported,TRACK,,Acme,")
+            .contains(",1.50,2500.00,\"left, \"\"right\"\"\",");
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertThatThrownBy(() -> ExportFormat.fromParameter("xml"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported export format");
+    }
+
+    private Asset sampleAsset(Long id, String code, String notes) {
+        return new Asset(
+            id,
+            code,
+            "Exported",
+            "TRACK",
+            null,
+            "Acme",
+            "MDL",
+            "SER",
+            LocalDate.of(2020, 1, 1),
+            "ACTIVE",
+            "LOC-1",
+            30,
+            LocalDate.of(2024, 1, 1),
+            new BigDecimal("1.50"),
+            new BigDecimal("2500.00"),
+            notes
+        );
+    }
+}
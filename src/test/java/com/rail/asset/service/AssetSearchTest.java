@@ -0,0 +1,118 @@
+package com.rail.asset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.repository.AssetRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetSearchTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        assetRepository.deleteAll();
+        assetService.create(asset("SRC-1", "TRACK", "ACTIVE", "LDN", LocalDate.of(2019, 5, 1)));
+        assetService.create(asset("SRC-2", "TRACK", "INACTIVE", "LDN", null));
+        assetService.create(asset("SRC-3", "POWER", "ACTIVE", "MAN", LocalDate.of(2021, 3, 1)));
+        assetService.create(asset("SRC-4", "TRACK", "ACTIVE", "MAN", null));
+        assetService.create(asset("SRC-5", "TRACK", "ACTIVE", "LDN", LocalDate.of(2019, 5, 1)));
+    }
+
+    @Test
+    void combinesAnyFilters() {
+        assertThat(codes(assetService.search(criteria("TRACK", null, null, null), AssetSort.DEFAULT, null, null)))
+            .containsExactly("SRC-1", "SRC-2", "SRC-4", "SRC-5");
+        assertThat(codes(assetService.search(criteria(null, "active", "man", null), AssetSort.DEFAULT, null, null)))
+            .containsExactly("SRC-3", "SRC-4");
+        assertThat(codes(assetService.search(
+            criteria("TRACK", null, null, LocalDate.of(2019, 1, 1)), AssetSort.DEFAULT, null, null)))
+            .containsExactly("SRC-1", "SRC-5");
+    }
+
+    @Test
+    void keysetPagesThroughNullableSortInBothDirections() {
+        assertThat(walk(AssetSort.fromParameter("installDate")))
+            .containsExactly("SRC-2", "SRC-4", "SRC-1", "SRC-5", "SRC-3");
+        assertThat(walk(AssetSort.fromParameter("-installDate")))
+            .containsExactly("SRC-3", "SRC-5", "SRC-1", "SRC-4", "SRC-2");
+    }
+
+    @Test
+    void summariesSelectTheProjectionAndPageLikeFullRows() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        AssetSort sort = AssetSort.fromParameter("-installDate");
+        List<String> codes = new ArrayList<>();
+        long loadsBefore = statistics.getEntityLoadCount();
+        String cursor = null;
+        do {
+            CursorPage<AssetSummary> page = assetService.searchSummaries(
+                criteria("TRACK", "active", null, null), sort, cursor, 2);
+            page.items().forEach(summary -> codes.add(summary.assetCode()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(codes).containsExactly("SRC-5", "SRC-1", "SRC-4");
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadsBefore);
+    }
+
+    @Test
+    void rejectsInvertedRangesAndForeignCursors() {
+        AssetSearchCriteria inverted = new AssetSearchCriteria(null, null, null, null, null, null, null, null,
+            LocalDate.of(2022, 1, 1), LocalDate.of(2021, 1, 1), null, null, null, null);
+        String idCursor = new AssetCursor(5L).encode();
+
+        assertThatThrownBy(() -> assetService.search(inverted, AssetSort.DEFAULT, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> assetService.search(
+            AssetSearchCriteria.NONE, AssetSort.fromParameter("installDate"), idCursor, null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AssetSort.fromParameter("notes")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> walk(AssetSort sort) {
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Asset> page = assetService.search(AssetSearchCriteria.NONE, sort, cursor, 2);
+            codes.addAll(codes(page));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return codes;
+    }
+
+    private static List<String> codes(CursorPage<Asset> page) {
+        return page.items().stream().map(Asset::getAssetCode).toList();
+    }
+
+    private static AssetSearchCriteria criteria(String category, String status, String location, LocalDate installedFrom) {
+        return new AssetSearchCriteria(null, category, null, status, location, null, null, null,
+            installedFrom, null, null, null, null, null);
+    }
+
+    private static Asset asset(String code, String category, String status, String location, LocalDate installDate) {
+        return new Asset(null, code, "Search " + code, category, null, "Acme", "MDL", null,
+            installDate, status, location, 30, null, new BigDecimal("1.00"), new BigDecimal("100.00"), null);
+    }
+}
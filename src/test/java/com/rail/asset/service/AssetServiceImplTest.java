@@ -3,16 +3,26 @@ package com.rail.asset.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.domain.AssetVersion;
 import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.event.AssetChangeType;
+import com.rail.asset.service.event.AssetChangedEvent;
 import com.rail.asset.service.impl.AssetServiceImpl;
 import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +30,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 @ExtendWith(MockitoExtension.class)
 class AssetServiceImplTest {
@@ -27,11 +39,15 @@ class AssetServiceImplTest {
     @Mock
     private AssetRepository assetRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private AssetServiceImpl assetService;
 
     @BeforeEach
     void setUp() {
-        assetService = new AssetServiceImpl(assetRepository);
+        Clock clock = Clock.fixed(LocalDate.of(2024, 6, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        assetService = new AssetServiceImpl(assetRepository, eventPublisher, clock);
     }
 
     @Test
@@ -73,15 +89,60 @@ class AssetServiceImplTest {
 
         when(assetRepository.findById(2L)).thenReturn(Optional.of(existing));
         when(assetRepository.findByAssetCode("ram-101")).thenReturn(Optional.of(existing));
-        when(assetRepository.save(any(Asset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(assetRepository.saveAndFlush(any(Asset.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Asset updated = assetService.update(2L, incoming);
 
-        verify(assetRepository).save(existing);
+        verify(assetRepository).saveAndFlush(existing);
         assertThat(updated.getAssetCode()).isEqualTo("RAM-101");
         assertThat(updated.getManufacturer()).isEqualTo(incoming.getManufacturer());
     }
 
+    @Test
+    void updatePublishesChangeWithPreviousSnapshot() {
+        Asset incoming = sampleAsset();
+        incoming.setAssetCode("RAM-102");
+        Asset existing = sampleAsset(3L);
+
+        when(assetRepository.findById(3L)).thenReturn(Optional.of(existing));
+        when(assetRepository.findByAssetCode("RAM-102")).thenReturn(Optional.empty());
+        when(assetRepository.saveAndFlush(any(Asset.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assetService.update(3L, incoming);
+
+        ArgumentCaptor<AssetChangedEvent> captor = ArgumentCaptor.forClass(AssetChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().type()).isEqualTo(AssetChangeType.UPDATED);
+        assertThat(captor.getValue().assetId()).isEqualTo(3L);
+        assertThat(captor.getValue().previous().getAssetCode()).isEqualTo("RAM-100");
+        assertThat(captor.getValue().current().getAssetCode()).isEqualTo("RAM-102");
+    }
+
+    @Test
+    void findByAssetCodeLooksUpNormalizedCode() {
+        when(assetRepository.findByAssetCode("RAM-100")).thenReturn(Optional.of(sampleAsset(4L)));
+
+        assertThat(assetService.findByAssetCode(" ram-100 ").getId()).isEqualTo(4L);
+    }
+
+    @Test
+    void updateRejectsStaleExpectedVersion() {
+        Asset existing = sampleAsset(6L);
+        existing.setVersion(2L);
+        when(assetRepository.findById(6L)).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> assetService.update(6L, sampleAsset(), 1L))
+            .isInstanceOf(AssetVersionConflictException.class);
+        verify(assetRepository, times(0)).saveAndFlush(any(Asset.class));
+    }
+
+    @Test
+    void findVersionByAssetCodeLooksUpNormalizedCode() {
+        when(assetRepository.findVersionByAssetCode("RAM-100")).thenReturn(Optional.of(new AssetVersion(4L, 7L)));
+
+        assertThat(assetService.findVersionByAssetCode(" ram-100 ").version()).isEqualTo(7L);
+    }
+
     @Test
     void updateThrowsWhenAssetMissing() {
         Asset incoming = sampleAsset();
@@ -109,6 +170,101 @@ class AssetServiceImplTest {
         assertThat(assetService.findByCategoryAndStatus("TRACK", "ACTIVE")).isEmpty();
     }
 
+    @Test
+    void findPageFetchesOneExtraRowAndEmitsCursor() {
+        when(assetRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+            .thenReturn(List.of(sampleAsset(1L), sampleAsset(2L), sampleAsset(3L)));
+
+        CursorPage<Asset> page = assetService.findPage(null, 2);
+
+        assertThat(page.items()).extracting(Asset::getId).containsExactly(1L, 2L);
+        assertThat(AssetCursor.decode(page.nextCursor()).lastId()).isEqualTo(2L);
+    }
+
+    @Test
+    void findPageResumesAfterCursorAndEndsOnShortPage() {
+        String cursor = new AssetCursor(2L).encode();
+        when(assetRepository.findByLocationCodeAndIdGreaterThanOrderByIdAsc(eq("LOC-01"), eq(2L), any(Limit.class)))
+            .thenReturn(List.of(sampleAsset(3L)));
+
+        CursorPage<Asset> page = assetService.findPageByLocation("LOC-01", cursor, null);
+
+        assertThat(page.items()).extracting(Asset::getId).containsExactly(3L);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void findSummaryPageUsesProjectionAndIdCursor() {
+        when(assetRepository.findByCategoryAndStatusAndIdGreaterThanOrderByIdAsc(
+            "TRACK", "ACTIVE", 0L, Limit.of(2), AssetSummary.class))
+            .thenReturn(List.of(
+                new AssetSummary(4L, "TRK-4", "Rail", "TRACK", "ACTIVE", "LOC-01"),
+                new AssetSummary(9L, "TRK-9", "Rail", "TRACK", "ACTIVE", "LOC-01")));
+
+        CursorPage<AssetSummary> page = assetService.findSummaryPageByCategoryAndStatus("TRACK", "ACTIVE", null, 1);
+
+        assertThat(page.items()).extracting(AssetSummary::assetCode).containsExactly("TRK-4");
+        assertThat(AssetCursor.decode(page.nextCursor()).lastId()).isEqualTo(4L);
+    }
+
+    @Test
+    void findPageClampsOversizedLimit() {
+        when(assetRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(501))).thenReturn(Collections.emptyList());
+
+        assertThat(assetService.findPage(null, 100_000).items()).isEmpty();
+    }
+
+    @Test
+    void findDueWithinQueriesWindowFromTodayAndEmitsDueDateCursor() {
+        Asset first = sampleAsset(8L);
+        Asset second = sampleAsset(9L);
+        Asset third = sampleAsset(10L);
+        List.of(first, second, third).forEach(Asset::refreshNextInspectionDue);
+        when(assetRepository.findInspectionDue(
+            LocalDate.of(2024, 6, 1), LocalDate.of(2024, 6, 15), "LOC-01", "TRACK", null, 0L, 3))
+            .thenReturn(List.of(first, second, third));
+
+        CursorPage<Asset> page = assetService.findDueWithin(14, "loc-01", "TRACK", null, 2);
+
+        AssetCursor next = AssetCursor.decode(page.nextCursor());
+        assertThat(page.items()).hasSize(2);
+        assertThat(next.sortKey()).isEqualTo("2024-03-31");
+        assertThat(next.lastId()).isEqualTo(9L);
+    }
+
+    @Test
+    void findOverdueResumesFromDueDateCursor() {
+        String cursor = new AssetCursor("2024-03-31", 9L).encode();
+        when(assetRepository.findInspectionDue(
+            null, LocalDate.of(2024, 5, 31), null, null, LocalDate.of(2024, 3, 31), 9L, 101))
+            .thenReturn(Collections.emptyList());
+
+        assertThat(assetService.findOverdue(null, null, cursor, null).hasNext()).isFalse();
+    }
+
+    @Test
+    void findOverdueRejectsCursorWithoutDueDate() {
+        String cursor = new AssetCursor(9L).encode();
+
+        assertThatThrownBy(() -> assetService.findOverdue(null, null, cursor, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+        verify(assetRepository, never()).findInspectionDue(any(), any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void findDueWithinRejectsOutOfRangeWindow() {
+        assertThatThrownBy(() -> assetService.findDueWithin(-1, null, null, null, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodeRejectsMalformedCursor() {
+        assertThatThrownBy(() -> AssetCursor.decode("not-a-cursor"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Invalid cursor");
+    }
+
     private Asset sampleAsset() {
         return sampleAsset(null);
     }
@@ -0,0 +1,119 @@
+package com.rail.asset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetTombstone;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.repository.AssetTombstoneRepository;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "rail.asset.sync.settle-window=PT0S")
+class AssetSyncServiceImplTest {
+
+    @Autowired
+    private AssetSyncService assetSyncService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetTombstoneRepository tombstoneRepository;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        tombstoneRepository.deleteAll();
+    }
+
+    @Test
+    void initialSyncPagesThroughAssetsThenDeltaReturnsUpdatesAndTombstones() {
+        Asset first = assetService.create(asset("SYN-1"));
+        Asset second = assetService.create(asset("SYN-2"));
+        assetService.create(asset("SYN-3"));
+
+        AssetChangeSet page1 = assetSyncService.changesSince(null, 2);
+        AssetChangeSet page2 = assetSyncService.changesSince(page1.nextToken(), 2);
+
+        assertThat(page1.upserted()).extracting(Asset::getAssetCode).containsExactly("SYN-1", "SYN-2");
+        assertThat(page1.hasMore()).isTrue();
+        assertThat(page2.upserted()).extracting(Asset::getAssetCode).containsExactly("SYN-3");
+        assertThat(page2.deleted()).isEmpty();
+        assertThat(page2.hasMore()).isFalse();
+
+        Asset renamed = asset("SYN-1");
+        renamed.setName("Renamed");
+        assetService.update(first.getId(), renamed);
+        assetService.delete(second.getId());
+
+        AssetChangeSet delta = assetSyncService.changesSince(page2.nextToken(), 2);
+
+        assertThat(delta.upserted()).extracting(Asset::getName).containsExactly("Renamed");
+        assertThat(delta.deleted()).extracting(AssetTombstone::getAssetId).containsExactly(second.getId());
+        assertThat(delta.hasMore()).isFalse();
+        assertThat(assetSyncService.changesSince(delta.nextToken(), 2).upserted()).isEmpty();
+    }
+
+    @Test
+    void initialSyncSkipsExistingTombstones() {
+        Asset doomed = assetService.create(asset("SYN-10"));
+        assetService.delete(doomed.getId());
+
+        AssetChangeSet changes = assetSyncService.changesSince(null, null);
+
+        assertThat(changes.upserted()).isEmpty();
+        assertThat(changes.deleted()).isEmpty();
+    }
+
+    @Test
+    void tokenOlderThanTombstoneRetentionRequiresResync() {
+        Instant stale = Instant.now().minus(Duration.ofDays(31));
+        String token = new SyncToken(stale, 0L, stale, 0L).encode();
+
+        assertThatThrownBy(() -> assetSyncService.changesSince(token, null))
+            .isInstanceOf(SyncTokenExpiredException.class);
+        assertThatThrownBy(() -> assetSyncService.changesSince("not-a-token", null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void purgeDropsTombstonesPastRetention() {
+        tombstoneRepository.save(new AssetTombstone(900L, "OLD-1", Instant.now().minus(Duration.ofDays(40))));
+        tombstoneRepository.save(new AssetTombstone(901L, "NEW-1", Instant.now().minus(Duration.ofDays(1))));
+
+        assertThat(assetSyncService.purgeExpiredTombstones()).isEqualTo(1);
+        assertThat(tombstoneRepository.findAll()).extracting(AssetTombstone::getAssetId).containsExactly(901L);
+    }
+
+    private Asset asset(String code) {
+        return new Asset(
+            null,
+            code,
+            "Synced " + code,
+            "TRACK",
+            null,
+            "Acme",
+            "MDL",
+            null,
+            LocalDate.of(2020, 1, 1),
+            "ACTIVE",
+            "LOC-SYN",
+            30,
+            LocalDate.of(2024, 1, 1),
+            new BigDecimal("1.00"),
+            new BigDecimal("100.00"),
+            null
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.rail.asset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "rail.asset.valuation.chunk-size=2")
+class AssetValuationServiceImplTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 12, 31);
+
+    @Autowired
+    private AssetValuationService valuationService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void seed() {
+        assetRepository.deleteAll();
+        // 10% a year for 365 days: 1,000.00 of 10,000.00.
+        assetRepository.save(asset("VAL-1", "TRACK", "LDN", AS_OF.minusDays(365), "10000.00", "10.00"));
+        // 12.5% a year for 100 days: 3.4246... rounds to 3.42 of 100.00.
+        assetRepository.save(asset("VAL-2", "TRACK", "MAN", AS_OF.minusDays(100), "100.00", "12.50"));
+        // Past the end of its life: fully depreciated.
+        assetRepository.save(asset("VAL-3", "POWER", "LDN", LocalDate.of(1990, 1, 1), "500.00", "5.00"));
+        // Installed after the valuation date and without a rate: no depreciation yet.
+        assetRepository.save(asset("VAL-4", "POWER", "LDN", AS_OF.plusDays(10), "250.00", "20.00"));
+        assetRepository.save(asset("VAL-5", "SIGNAL", null, AS_OF.minusDays(50), "75.50", null));
+        assetRepository.save(asset("VAL-6", "SIGNAL", null, AS_OF.minusDays(50), null, "10.00"));
+    }
+
+    @Test
+    void valuesRegisterAcrossChunksAndAggregatesByCategoryAndLocation() {
+        PortfolioValuation valuation = valuationService.valueAt(AS_OF);
+
+        assertThat(valuation.asOf()).isEqualTo(AS_OF);
+        assertThat(valuation.assets()).isEqualTo(5);
+        assertThat(valuation.unvaluedAssets()).isEqualTo(1);
+        assertThat(valuation.acquisitionCost()).isEqualByComparingTo("10925.50");
+        assertThat(valuation.accumulatedDepreciation()).isEqualByComparingTo("1503.42");
+        assertThat(valuation.bookValue()).isEqualByComparingTo("9422.08");
+
+        assertThat(valuation.byCategory()).extracting(PortfolioValuation.ValuationGroup::key)
+            .containsExactly("POWER", "SIGNAL", "TRACK");
+        PortfolioValuation.ValuationGroup track = valuation.byCategory().get(2);
+        assertThat(track.assets()).isEqualTo(2);
+        assertThat(track.bookValue()).isEqualByComparingTo("9096.58");
+
+        assertThat(valuation.byLocation()).extracting(PortfolioValuation.ValuationGroup::key)
+            .containsExactly("LDN", "MAN", null);
+        PortfolioValuation.ValuationGroup london = valuation.byLocation().get(0);
+        assertThat(london.assets()).isEqualTo(3);
+        assertThat(london.accumulatedDepreciation()).isEqualByComparingTo("1500.00");
+    }
+
+    private static Asset asset(String code, String category, String location, LocalDate installed,
+                               String cost, String rate) {
+        return new Asset(null, code, "Valued " + code, category, null, null, null, null, installed, "ACTIVE",
+            location, null, null, rate == null ? null : new BigDecimal(rate), cost == null ? null : new BigDecimal(cost),
+            null);
+    }
+}
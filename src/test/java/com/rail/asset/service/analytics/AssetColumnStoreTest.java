@@ -0,0 +1,89 @@
+package com.rail.asset.service.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetColumnStoreTest {
+
+    @Autowired
+    private AssetColumnStore columnStore;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        columnStore.rebuild();
+    }
+
+    @Test
+    void groupsAndSumsFollowCreatesUpdatesAndDeletes() {
+        Asset first = assetService.create(asset("COL-1", "TRACK", "Acme", "LDN-1", LocalDate.of(2015, 3, 1), "100.25"));
+        assetService.create(asset("COL-2", "TRACK", "Acme", "LDN-2", LocalDate.of(2019, 6, 30), "50.00"));
+        assetService.create(asset("COL-3", "SIGNAL", "Siemens", "MAN-1", null, null));
+        Asset fourth = assetService.create(asset("COL-4", "SIGNAL", "Alstom", "LDN-1", LocalDate.of(2015, 1, 1), "9.99"));
+
+        assetService.update(first.getId(), asset("COL-1", "BRIDGE", "Acme", "LDN-1", LocalDate.of(2015, 3, 1), "200.00"));
+        assetService.delete(fourth.getId());
+
+        AssetAnalytics byCategory = columnStore.aggregate(AssetAnalyticsFilter.NONE, AnalyticsDimension.CATEGORY);
+        assertThat(byCategory.assets()).isEqualTo(3);
+        assertThat(byCategory.totalCost()).isEqualByComparingTo("250.00");
+        assertThat(byCategory.groups()).containsExactly(
+            new AssetAnalytics.Group("BRIDGE", 1, new BigDecimal("200.00")),
+            new AssetAnalytics.Group("SIGNAL", 1, new BigDecimal("0.00")),
+            new AssetAnalytics.Group("TRACK", 1, new BigDecimal("50.00")));
+
+        assertThat(columnStore.aggregate(AssetAnalyticsFilter.NONE, AnalyticsDimension.INSTALL_YEAR).groups())
+            .extracting(AssetAnalytics.Group::key)
+            .containsExactly("2015", "2019", null);
+        assertThat(columnStore.size()).isEqualTo(3);
+    }
+
+    @Test
+    void filtersNarrowTheScanAndRebuildPicksUpDirectWrites() {
+        assetService.create(asset("COL-10", "TRACK", "Acme", "LDN-1", LocalDate.of(2010, 5, 1), "10.00"));
+        assetService.create(asset("COL-11", "TRACK", "Acme", "LDN-2", LocalDate.of(2012, 5, 1), "20.00"));
+        assetService.create(asset("COL-12", "TRACK", "Siemens", "LDN-1", LocalDate.of(2014, 5, 1), "30.00"));
+
+        AssetAnalytics filtered = columnStore.aggregate(
+            new AssetAnalyticsFilter("TRACK", null, " ldn-1 ", null, LocalDate.of(2009, 1, 1), LocalDate.of(2014, 12, 31)),
+            AnalyticsDimension.MANUFACTURER);
+        assertThat(filtered.groups()).containsExactly(
+            new AssetAnalytics.Group("Acme", 1, new BigDecimal("10.00")),
+            new AssetAnalytics.Group("Siemens", 1, new BigDecimal("30.00")));
+        assertThat(columnStore.aggregate(new AssetAnalyticsFilter("TUNNEL", null, null, null, null, null), null).assets())
+            .isZero();
+        assertThatThrownBy(() -> columnStore.aggregate(
+            new AssetAnalyticsFilter(null, null, null, null, LocalDate.of(2020, 1, 1), LocalDate.of(2019, 1, 1)), null))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assetRepository.save(asset("COL-13", "TRACK", "Acme", "LDN-1", LocalDate.of(2011, 5, 1), "5.00"));
+        columnStore.rebuild();
+        AssetAnalytics total = columnStore.aggregate(AssetAnalyticsFilter.NONE, null);
+        assertThat(total.assets()).isEqualTo(4);
+        assertThat(total.totalCost()).isEqualByComparingTo("65.00");
+        assertThat(total.groups()).isEmpty();
+    }
+
+    private static Asset asset(String code, String category, String manufacturer, String location, LocalDate installed,
+        String cost) {
+        return new Asset(null, code, "Column " + code, category, null, manufacturer, "MDL", null, installed, "ACTIVE",
+            location, null, null, null, cost == null ? null : new BigDecimal(cost), null);
+    }
+}
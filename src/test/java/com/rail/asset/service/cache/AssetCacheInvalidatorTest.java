@@ -0,0 +1,104 @@
+package com.rail.asset.service.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetBulkService;
+import com.rail.asset.service.AssetService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+@SpringBootTest
+class AssetCacheInvalidatorTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetBulkService assetBulkService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void lookupsAreServedFromCacheUntilTheAssetChanges() {
+        Asset created = assetService.create(asset("CCH-1"));
+
+        Asset first = assetService.findByAssetCode("cch-1");
+        assertThat(assetService.findByAssetCode("CCH-1")).isSameAs(first);
+        assertThat(assetService.findById(created.getId())).isSameAs(assetService.findById(created.getId()));
+
+        Asset renamed = asset("CCH-2");
+        renamed.setName("Renamed");
+        assetService.update(created.getId(), renamed);
+
+        assertThat(assetService.findById(created.getId()).getName()).isEqualTo("Renamed");
+        assertThat(assetService.findByAssetCode("CCH-2").getName()).isEqualTo("Renamed");
+        assertThatThrownBy(() -> assetService.findByAssetCode("CCH-1"))
+            .hasMessageContaining("Asset not found by code");
+    }
+
+    @Test
+    void deleteEvictsCachedEntries() {
+        Asset created = assetService.create(asset("CCH-3"));
+        assetService.findById(created.getId());
+        assetService.findByAssetCode("CCH-3");
+
+        assetService.delete(created.getId());
+
+        assertThat(cacheManager.getCache(AssetCacheNames.BY_ID).get(created.getId())).isNull();
+        assertThat(cacheManager.getCache(AssetCacheNames.BY_CODE).get("CCH-3")).isNull();
+    }
+
+    @Test
+    void bulkUpsertEvictsChangedAssets() {
+        Asset created = assetService.create(asset("CCH-4"));
+        assetService.findById(created.getId());
+        assetService.findByAssetCode("CCH-4");
+
+        Asset changed = asset("CCH-4");
+        changed.setStatus("RETIRED");
+        assetBulkService.upsertAssets(List.of(changed));
+
+        assertThat(assetService.findById(created.getId()).getStatus()).isEqualTo("RETIRED");
+        assertThat(assetService.findByAssetCode("CCH-4").getStatus()).isEqualTo("RETIRED");
+    }
+
+    private Asset asset(String code) {
+        return new Asset(
+            null,
+            code,
+            "Cached",
+            "TRACK",
+            null,
+            "Acme",
+            "MDL",
+            null,
+            LocalDate.of(2020, 1, 1),
+            "ACTIVE",
+            "LOC-1",
+            30,
+            LocalDate.of(2024, 1, 1),
+            new BigDecimal("1.00"),
+            new BigDecimal("100.00"),
+            null
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.rail.asset.service.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+@SpringBootTest
+@RecordApplicationEvents
+class AssetChangedEventTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+    }
+
+    @Test
+    void updateEventCarriesTheVersionReturnedToTheCaller() {
+        Asset created = assetService.create(asset("EVT-1", "Original"));
+
+        Asset updated = assetService.update(created.getId(), asset("EVT-1", "Renamed"));
+
+        List<AssetChangedEvent> published = events.stream(AssetChangedEvent.class)
+            .filter(event -> event.type() == AssetChangeType.UPDATED)
+            .toList();
+        assertThat(published).hasSize(1);
+        Asset current = published.get(0).current();
+        assertThat(updated.getVersion()).isGreaterThan(created.getVersion());
+        assertThat(current.getVersion()).isEqualTo(updated.getVersion());
+        assertThat(current.getUpdatedAt()).isEqualTo(updated.getUpdatedAt());
+        assertThat(current.getVersion()).isEqualTo(assetService.findVersion(created.getId()).version());
+    }
+
+    private static Asset asset(String code, String name) {
+        return new Asset(null, code, name, "TRACK", null, null, null, null,
+            null, "ACTIVE", "LOC-1", null, null, null, null, null);
+    }
+}
@@ -0,0 +1,71 @@
+package com.rail.asset.service.facet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetFacetCount;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetFacetCounterTest {
+
+    @Autowired
+    private AssetFacetCounter facetCounter;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        assertThat(facetCounter.reconcile()).isTrue();
+    }
+
+    @Test
+    void countsFollowCreatesTransitionsAndDeletes() {
+        Asset first = assetService.create(asset("FAC-1", "TRACK", "ACTIVE", "LDN"));
+        assetService.create(asset("FAC-2", "TRACK", "ACTIVE", "LDN"));
+        Asset third = assetService.create(asset("FAC-3", "POWER", "ACTIVE", "MAN"));
+
+        assetService.update(first.getId(), asset("FAC-1", "TRACK", "RETIRED", "LDN"));
+        assetService.delete(third.getId());
+
+        AssetFacets facets = facetCounter.facets();
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.cells()).containsExactly(
+            new AssetFacetCount("TRACK", "ACTIVE", "LDN", 1),
+            new AssetFacetCount("TRACK", "RETIRED", "LDN", 1));
+        assertThat(facets.statuses()).containsExactly(
+            new AssetFacets.FacetValue("ACTIVE", 1), new AssetFacets.FacetValue("RETIRED", 1));
+        assertThat(facets.locations()).containsExactly(new AssetFacets.FacetValue("LDN", 2));
+        assertThat(facetCounter.facets()).isSameAs(facets);
+    }
+
+    @Test
+    void reconcileRepairsWritesThatBypassedTheService() {
+        assetService.create(asset("FAC-10", "TRACK", "ACTIVE", "LDN"));
+        assetRepository.save(asset("FAC-11", "SIGNAL", "ACTIVE", null));
+        assertThat(facetCounter.facets().total()).isEqualTo(1);
+
+        assertThat(facetCounter.reconcile()).isTrue();
+
+        AssetFacets facets = facetCounter.facets();
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.locations()).containsExactly(
+            new AssetFacets.FacetValue("LDN", 1), new AssetFacets.FacetValue(null, 1));
+    }
+
+    private static Asset asset(String code, String category, String status, String location) {
+        return new Asset(null, code, "Facet " + code, category, null, null, null, null,
+            null, status, location, null, null, new BigDecimal("1.00"), new BigDecimal("100.00"), null);
+    }
+}
@@ -0,0 +1,160 @@
+package com.rail.asset.service.feed;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rail.asset.domain.Asset;
+import com.rail.asset.service.event.AssetChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class AssetChangeFeedTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AssetChangeFeed feed = new AssetChangeFeed(new ObjectMapper().findAndRegisterModules(), registry, 2, 3, 2, Duration.ofSeconds(5));
+
+    @AfterEach
+    void shutdown() {
+        feed.shutdown();
+    }
+
+    @Test
+    void deliversOnlyChangesMatchingTheFilter() throws Exception {
+        RecordingSink sink = new RecordingSink(null);
+        feed.subscribe(AssetFeedFilter.of(null, null, " ldn-01 "), sink);
+        assertThat(sink.next()).isEqualTo(":connected");
+
+        feed.onAssetChanged(AssetChangedEvent.created(asset(1L, "LDN-01")));
+        feed.onAssetChanged(AssetChangedEvent.created(asset(2L, "MAN-01")));
+        feed.onAssetChanged(AssetChangedEvent.updated(asset(1L, "LDN-01"), asset(1L, "MAN-01")));
+
+        assertThat(sink.next()).startsWith("created#1:").contains("\"assetId\":1");
+        assertThat(sink.next()).startsWith("updated#3:").contains("\"locationCode\":\"MAN-01\"");
+        assertThat(sink.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void slowSubscriberDropsOldestEventsWithoutHoldingUpOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink(release);
+        RecordingSink fast = new RecordingSink(null);
+        feed.subscribe(AssetFeedFilter.ALL, slow);
+        feed.subscribe(AssetFeedFilter.ALL, fast);
+        assertThat(fast.next()).isEqualTo(":connected");
+
+        for (long id = 1; id <= 5; id++) {
+            feed.onAssetChanged(AssetChangedEvent.created(asset(id, "LDN-01")));
+            assertThat(fast.next()).startsWith("created#" + id + ":");
+        }
+
+        release.countDown();
+        assertThat(slow.next()).isEqualTo(":connected");
+        assertThat(slow.next()).isEqualTo("overflow:{\"dropped\":3}");
+        assertThat(slow.next()).startsWith("created#4:");
+        assertThat(slow.next()).startsWith("created#5:");
+        assertThat(registry.get("rail.asset.feed.dropped").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void brokenSubscribersAreReleasedAndCapacityIsEnforced() throws Exception {
+        RecordingSink broken = new RecordingSink(null);
+        broken.fail = true;
+        feed.subscribe(AssetFeedFilter.ALL, broken);
+        assertThat(broken.closed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(feed.subscriberCount()).isZero();
+
+        for (int i = 0; i < 3; i++) {
+            feed.subscribe(AssetFeedFilter.ALL, new RecordingSink(null));
+        }
+        assertThat(registry.get("rail.asset.feed.subscribers").gauge().value()).isEqualTo(3);
+        assertThatThrownBy(() -> feed.subscribe(AssetFeedFilter.ALL, new RecordingSink(null)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void stalledSubscriberIsEvictedAndTheDispatcherKeepsServingOthers() throws Exception {
+        AssetChangeFeed single = new AssetChangeFeed(new ObjectMapper().findAndRegisterModules(), registry, 2, 3, 1,
+            Duration.ofMillis(50));
+        try {
+            CountDownLatch release = new CountDownLatch(1);
+            RecordingSink stuck = new RecordingSink(release);
+            RecordingSink healthy = new RecordingSink(null);
+            single.subscribe(AssetFeedFilter.ALL, stuck);
+            single.subscribe(AssetFeedFilter.ALL, healthy);
+
+            Thread.sleep(200);
+            single.evictStalled();
+            assertThat(single.subscriberCount()).isEqualTo(1);
+            assertThat(registry.get("rail.asset.feed.evicted").counter().count()).isEqualTo(1);
+
+            assertThat(healthy.next()).isEqualTo(":connected");
+            single.onAssetChanged(AssetChangedEvent.created(asset(1L, "LDN-01")));
+            assertThat(healthy.next()).startsWith("created#1:");
+
+            release.countDown();
+            assertThat(stuck.closed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(stuck.events.poll(200, TimeUnit.MILLISECONDS)).isEqualTo(":connected");
+            assertThat(stuck.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    private static Asset asset(Long id, String location) {
+        return new Asset(id, "FEED-" + id, "Feed asset", "TRACK", null, null, null, null,
+            null, "ACTIVE", location, null, null, null, null, null);
+    }
+
+    private static final class RecordingSink implements AssetFeedSink {
+
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch release;
+        private volatile boolean fail;
+
+        private RecordingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(String id, String name, String data) throws IOException {
+            record(name + (id == null ? "" : "#" + id) + ":" + data);
+        }
+
+        @Override
+        public void comment(String text) throws IOException {
+            record(":" + text);
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        private void record(String event) throws IOException {
+            if (fail) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                if (release != null) {
+                    release.await();
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+
+        private String next() throws InterruptedException {
+            return events.poll(5, TimeUnit.SECONDS);
+        }
+    }
+}
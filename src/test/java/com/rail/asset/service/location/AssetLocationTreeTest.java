@@ -0,0 +1,117 @@
+package com.rail.asset.service.location;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.domain.AssetSummary;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import com.rail.asset.service.CursorPage;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetLocationTreeTest {
+
+    @Autowired
+    private AssetLocationTree locationTree;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        assertThat(locationTree.rebuild()).isTrue();
+    }
+
+    @Test
+    void countsFollowChangesAlongTheHierarchy() {
+        Asset first = assetService.create(asset("LOC-1", "WCML-S12-STN045"));
+        assetService.create(asset("LOC-2", "WCML-S12-STN045"));
+        assetService.create(asset("LOC-3", "WCML-S12"));
+        Asset fourth = assetService.create(asset("LOC-4", "WCML-S1-STN001"));
+        assetService.create(asset("LOC-5", "ECML-S01"));
+
+        assetService.update(first.getId(), asset("LOC-1", "WCML-S12-STN046"));
+        assetService.delete(fourth.getId());
+
+        assertThat(locationTree.browse(null)).get().satisfies(top -> {
+            assertThat(top.subtreeAssets()).isEqualTo(4);
+            assertThat(top.children()).extracting(AssetLocationNode::path).containsExactly("ECML", "WCML");
+        });
+        assertThat(locationTree.browse("wcml-s12")).contains(new AssetLocationNode("WCML-S12", 1, 3, List.of(
+            new AssetLocationNode("WCML-S12-STN045", 1, 1, List.of()),
+            new AssetLocationNode("WCML-S12-STN046", 1, 1, List.of()))));
+        assertThat(locationTree.browse("WCML-S1")).isEmpty();
+
+        assetRepository.save(asset("LOC-6", "WCML-S12-STN047"));
+        assertThat(locationTree.rebuild()).isTrue();
+        assertThat(locationTree.browse("WCML").orElseThrow().subtreeAssets()).isEqualTo(4);
+    }
+
+    @Test
+    void subtreeExcludesSiblingsThatOnlyShareAPrefix() {
+        assetService.create(asset("LOC-10", "WCML-S12-STN045"));
+        assetService.create(asset("LOC-11", "WCML-S12"));
+        assetService.create(asset("LOC-12", "WCML-S12-STN001"));
+        assetService.create(asset("LOC-13", "WCML-S123"));
+        assetService.create(asset("LOC-14", "WCML_S12"));
+
+        List<String> subtree = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Asset> page = assetService.findPageByLocationSubtree("wcml-s12", cursor, 1);
+            page.items().forEach(asset -> subtree.add(asset.getAssetCode()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(subtree).containsExactly("LOC-11", "LOC-12", "LOC-10");
+        assertThat(assetService.findPageByLocationPrefix("WCML-S12", null, 10).items())
+            .extracting(Asset::getAssetCode)
+            .containsExactly("LOC-11", "LOC-12", "LOC-10", "LOC-13");
+    }
+
+    @Test
+    void subtreeSummariesSelectTheProjectionAndPageLikeFullRows() {
+        assetService.create(asset("LOC-20", "WCML-S12-STN045"));
+        assetService.create(asset("LOC-21", "WCML-S12"));
+        assetService.create(asset("LOC-22", "WCML-S123"));
+        assetService.create(asset("LOC-23", "WCML-S12-STN001"));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long loadsBefore = statistics.getEntityLoadCount();
+        List<String> codes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<AssetSummary> page = assetService.findSummaryPageByLocationSubtree("wcml-s12", cursor, 2);
+            page.items().forEach(summary -> codes.add(summary.assetCode()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(codes).containsExactly("LOC-21", "LOC-23", "LOC-20");
+        assertThat(assetService.findSummaryPageByLocationPrefix("WCML-S12", null, 10).items())
+            .extracting(AssetSummary::assetCode)
+            .containsExactly("LOC-21", "LOC-23", "LOC-20", "LOC-22");
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loadsBefore);
+    }
+
+    private static Asset asset(String code, String location) {
+        return new Asset(null, code, "Located " + code, "TRACK", null, "Acme", "MDL", null, null, "ACTIVE",
+            location, null, null, null, new BigDecimal("10.00"), null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rail.asset.service.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "rail.reports.directory=target/test-reports",
+    "rail.reports.chunk-size=2",
+    "rail.reports.retention=PT0S"
+})
+class ReportJobServiceTest {
+
+    @Autowired
+    private ReportJobService reportJobService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void seed() {
+        assetRepository.deleteAll();
+        assetRepository.saveAll(List.of(
+            asset("RPT-1", "WCML-S12-STN045"),
+            asset("RPT-2", "ECML-S01"),
+            asset("RPT-3", "WCML-S12"),
+            asset("RPT-4", "WCML-S123"),
+            asset("RPT-5", "WCML-S12-STN001")));
+    }
+
+    @Test
+    void registerReportWritesEveryAssetInChunksToAGzipFile() throws Exception {
+        ReportJobStatus submitted = reportJobService.submit(new ReportRequest("register", null, null));
+        assertThat(submitted.estimatedRows()).isEqualTo(5);
+
+        ReportJobStatus done = awaitFinished(submitted.id());
+        assertThat(done.state()).isEqualTo(ReportState.COMPLETED);
+        assertThat(done.rows()).isEqualTo(5);
+        assertThat(done.fileBytes()).isPositive();
+        assertThat(done.expiresAt()).isEqualTo(done.finishedAt());
+
+        ReportDownload download = reportJobService.download(submitted.id()).orElseThrow();
+        assertThat(download.fileName()).matches("register-\\d{4}-\\d{2}-\\d{2}\\.csv");
+        List<String> lines = gunzip(download).lines().toList();
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0)).startsWith("id,assetCode,");
+        assertThat(lines.subList(1, 6)).allSatisfy(line -> assertThat(line).contains("RPT-"));
+    }
+
+    @Test
+    void locationInventoryCoversTheSubtreeInLocationOrder() throws Exception {
+        ReportJobStatus submitted = reportJobService.submit(new ReportRequest("location-inventory", "ndjson", "wcml-s12"));
+        assertThat(submitted.location()).isEqualTo("WCML-S12");
+
+        assertThat(awaitFinished(submitted.id()).rows()).isEqualTo(3);
+        List<String> lines = gunzip(reportJobService.download(submitted.id()).orElseThrow()).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"assetCode\":\"RPT-3\"");
+        assertThat(lines.get(1)).contains("\"assetCode\":\"RPT-5\"");
+        assertThat(lines.get(2)).contains("\"assetCode\":\"RPT-1\"");
+    }
+
+    @Test
+    void rejectsInvalidRequestsAndPurgesExpiredReports() throws Exception {
+        assertThatThrownBy(() -> reportJobService.submit(new ReportRequest("inventory", null, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportJobService.submit(new ReportRequest("location-inventory", "csv", " ")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reportJobService.submit(new ReportRequest("register", "xlsx", null)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reportJobService.download("missing")).isEmpty();
+
+        String id = reportJobService.submit(new ReportRequest("register", "csv", null)).id();
+        ReportDownload download = reportJobService.download(awaitFinished(id).id()).orElseThrow();
+        Thread.sleep(5);
+
+        assertThat(reportJobService.purgeExpired()).isPositive();
+        assertThat(reportJobService.status(id)).isEmpty();
+        assertThat(download.file()).doesNotExist();
+    }
+
+    private ReportJobStatus awaitFinished(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            ReportJobStatus status = reportJobService.status(id).orElseThrow();
+            if (status.state() == ReportState.COMPLETED || status.state() == ReportState.FAILED) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Report " + id + " did not finish");
+    }
+
+    private static String gunzip(ReportDownload download) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(download.file()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Asset asset(String code, String location) {
+        return new Asset(null, code, "Reported " + code, "TRACK", null, "Acme", "MDL", null, null, "ACTIVE",
+            location, null, null, null, new BigDecimal("10.00"), null);
+    }
+}
@@ -0,0 +1,105 @@
+package com.rail.asset.service.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.rail.asset.domain.Asset;
+import com.rail.asset.repository.AssetRepository;
+import com.rail.asset.service.AssetService;
+import com.rail.asset.service.event.AssetChangedEvent;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AssetTextIndexTest {
+
+    @Autowired
+    private AssetTextIndex textIndex;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @BeforeEach
+    void clean() {
+        assetRepository.deleteAll();
+        textIndex.rebuild();
+    }
+
+    @Test
+    void matchesEveryTermByPrefixAndRanksNameAboveNotes() {
+        Asset named = assetService.create(asset("TXT-1", "Point machine", "Siemens", "SN-0045871", null));
+        Asset noted = assetService.create(asset("TXT-2", "Signal head", "Siemens", "SN-0099",
+            "Adjacent point machine was replaced"));
+        assetService.create(asset("TXT-3", "Point machine", "Alstom", "SN-1000", null));
+
+        assertThat(textIndex.search("siemens point machine", 10))
+            .extracting(AssetTextHit::id)
+            .containsExactly(named.getId(), noted.getId());
+        assertThat(textIndex.search("siem poi", 10)).extracting(AssetTextHit::id)
+            .containsExactly(named.getId(), noted.getId());
+        assertThat(textIndex.search("sn00458", 10)).extracting(AssetTextHit::assetCode).containsExactly("TXT-1");
+        assertThat(textIndex.search("0045", 10)).extracting(AssetTextHit::assetCode).containsExactly("TXT-1");
+        assertThat(textIndex.search("siemens", 1)).hasSize(1);
+    }
+
+    @Test
+    void followsUpdatesAndDeletesAndRebuildsFromTheTable() {
+        Asset asset = assetService.create(asset("TXT-10", "Level crossing barrier", "Frauscher", "SN-1", null));
+        assetService.update(asset.getId(), asset("TXT-10", "Axle counter", "Frauscher", "SN-1", null));
+
+        assertThat(textIndex.search("barrier", 10)).isEmpty();
+        assertThat(textIndex.search("axle", 10)).extracting(AssetTextHit::name).containsExactly("Axle counter");
+
+        assetService.delete(asset.getId());
+        assertThat(textIndex.search("axle", 10)).isEmpty();
+
+        assetRepository.save(asset("TXT-11", "Transformer", "ABB", "SN-2", null));
+        assertThat(textIndex.search("transformer", 10)).isEmpty();
+        textIndex.rebuild();
+        assertThat(textIndex.search("transformer", 10)).extracting(AssetTextHit::assetCode).containsExactly("TXT-11");
+        assertThatThrownBy(() -> textIndex.search(" -- ", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void changesCommittedDuringARebuildAreReplayedOntoTheFreshIndex() {
+        AssetRepository repository = mock(AssetRepository.class);
+        AssetTextIndex index = new AssetTextIndex(repository, 10);
+        Asset loaded = withId(1L, asset("TXT-20", "Ballast regulator", "Plasser", "SN-20", null));
+        Asset renamed = withId(1L, asset("TXT-20", "Tamping machine", "Plasser", "SN-20", null));
+        Asset added = withId(2L, asset("TXT-21", "Rail grinder", "Loram", "SN-21", null));
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenAnswer(invocation -> {
+            // Both writes commit after the load has read row 1.
+            index.onAssetChanged(AssetChangedEvent.updated(loaded, renamed));
+            index.onAssetChanged(AssetChangedEvent.created(added));
+            return List.of(loaded);
+        });
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("ballast", 10)).isEmpty();
+        assertThat(index.search("tamping", 10)).extracting(AssetTextHit::id).containsExactly(1L);
+        assertThat(index.search("grinder", 10)).extracting(AssetTextHit::id).containsExactly(2L);
+    }
+
+    private static Asset withId(Long id, Asset asset) {
+        asset.setId(id);
+        return asset;
+    }
+
+    private static Asset asset(String code, String name, String manufacturer, String serial, String notes) {
+        return new Asset(null, code, name, "SIGNAL", null, manufacturer, "PM-9", serial,
+            null, "ACTIVE", "LDN", null, null, new BigDecimal("1.00"), new BigDecimal("100.00"), notes);
+    }
+}